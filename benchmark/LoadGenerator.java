@@ -0,0 +1,132 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga em loop fechado: cada cliente envia uma requisicao, aguarda a resposta e envia
+ * a proxima, ate o fim da duracao. Os clientes executam em virtual threads para que o gerador nao
+ * seja o limite de concorrencia.
+ *
+ * <p>Uso: java benchmark/LoadGenerator.java &lt;clientes&gt; &lt;segundos&gt; &lt;url&gt; [url...]
+ *
+ * <p>Imprime uma linha "key=value" com requisicoes, erros, vazao (req/s) e latencias p50/p99/max
+ * em milissegundos. As URLs sao alternadas entre as requisicoes de cada cliente.
+ */
+public class LoadGenerator {
+
+  private static final Duration WARMUP = Duration.ofSeconds(5);
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      System.err.println("Uso: java LoadGenerator.java <clientes> <segundos> <url> [url...]");
+      System.exit(2);
+    }
+    int clients = Integer.parseInt(args[0]);
+    Duration duration = Duration.ofSeconds(Long.parseLong(args[1]));
+    List<URI> targets = Arrays.stream(args, 2, args.length).map(URI::create).toList();
+
+    HttpClient client =
+        HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    run(client, clients, WARMUP, targets, null);
+
+    Recorder recorder = new Recorder();
+    long start = System.nanoTime();
+    run(client, clients, duration, targets, recorder);
+    double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+    long[] latencies = recorder.latencies();
+    Arrays.sort(latencies);
+    System.out.printf(
+        "clients=%d requests=%d errors=%d throughput=%.1f p50_ms=%.2f p99_ms=%.2f max_ms=%.2f%n",
+        clients,
+        latencies.length,
+        recorder.errors.get(),
+        latencies.length / elapsedSeconds,
+        percentileMs(latencies, 0.50),
+        percentileMs(latencies, 0.99),
+        latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+  }
+
+  private static void run(
+      HttpClient client, int clients, Duration duration, List<URI> targets, Recorder recorder)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + duration.toNanos();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < clients; i++) {
+        int offset = i;
+        executor.submit(
+            () -> {
+              long[] local = new long[1024];
+              int count = 0;
+              for (long n = offset; System.nanoTime() < deadline; n++) {
+                HttpRequest request =
+                    HttpRequest.newBuilder(targets.get((int) (n % targets.size())))
+                        .timeout(REQUEST_TIMEOUT)
+                        .GET()
+                        .build();
+                long begin = System.nanoTime();
+                boolean ok;
+                try {
+                  HttpResponse<Void> response =
+                      client.send(request, HttpResponse.BodyHandlers.discarding());
+                  ok = response.statusCode() < 400;
+                } catch (Exception e) {
+                  ok = false;
+                }
+                if (recorder == null) {
+                  continue;
+                }
+                if (!ok) {
+                  recorder.errors.incrementAndGet();
+                  continue;
+                }
+                if (count == local.length) {
+                  local = Arrays.copyOf(local, count * 2);
+                }
+                local[count++] = System.nanoTime() - begin;
+              }
+              if (recorder != null) {
+                recorder.add(Arrays.copyOf(local, count));
+              }
+            });
+      }
+    }
+  }
+
+  private static double percentileMs(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0;
+    }
+    int index = (int) Math.ceil(percentile * sorted.length) - 1;
+    return sorted[Math.max(0, index)] / 1e6;
+  }
+
+  /** Latencias e erros de todos os clientes */
+  private static final class Recorder {
+
+    private final AtomicLong errors = new AtomicLong();
+    private long[] latencies = new long[0];
+
+    private synchronized void add(long[] clientLatencies) {
+      long[] merged = Arrays.copyOf(latencies, latencies.length + clientLatencies.length);
+      System.arraycopy(clientLatencies, 0, merged, latencies.length, clientLatencies.length);
+      latencies = merged;
+    }
+
+    private synchronized long[] latencies() {
+      return latencies.clone();
+    }
+  }
+}
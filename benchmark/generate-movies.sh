@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Gera um CSV sintetico no formato do movielist.csv com N filmes.
+# Uso: benchmark/generate-movies.sh <linhas> <arquivo-saida>
+set -euo pipefail
+
+rows="${1:?informe o numero de linhas}"
+output="${2:?informe o arquivo de saida}"
+
+awk -v rows="$rows" 'BEGIN {
+  srand(42);
+  print "year;title;studios;producers;winner";
+  producers = 2000;
+  for (i = 1; i <= rows; i++) {
+    year = 1980 + (i % 45);
+    p1 = "Producer " int(rand() * producers);
+    p2 = "Producer " int(rand() * producers);
+    p3 = "Producer " int(rand() * producers);
+    if (i % 3 == 0) {
+      names = p1 ", " p2 " and " p3;
+    } else if (i % 2 == 0) {
+      names = p1 " and " p2;
+    } else {
+      names = p1;
+    }
+    winner = (i % 5 == 0) ? "yes" : "";
+    printf "%d;Movie %07d;Studio %d, Studio %d;%s;%s\n", year, i, i % 97, i % 13, names, winner;
+  }
+}' > "$output"
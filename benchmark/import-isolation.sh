@@ -0,0 +1,82 @@
+#!/usr/bin/env bash
+# Mede a latencia da API publica de leitura com e sem cargas administrativas em andamento. Com o
+# bulkhead de cargas (app.admin.import.*), o p99 das leituras deve permanecer estavel enquanto
+# uploads grandes de CSV sao processados.
+#
+# Uso: benchmark/import-isolation.sh
+#   CLIENTS      clientes de leitura simultaneos (padrao: 200)
+#   DURATION     segundos de medicao por fase, apos 5s de aquecimento (padrao: 30)
+#   IMPORT_SIZE  filmes por CSV enviado durante a fase com cargas (padrao: 100000)
+#   ENDPOINTS    caminhos de leitura exercitados
+#                (padrao: "/api/v1/producers/intervals /api/v1/movies/winners")
+#   PORT         porta HTTP usada pela aplicacao (padrao: 18080)
+#   JAR          jar da aplicacao (padrao: target/golden-raspberry-awards-api-1.0.0.jar)
+#   JAVA_OPTS    opcoes extras da JVM
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CLIENTS="${CLIENTS:-200}"
+DURATION="${DURATION:-30}"
+IMPORT_SIZE="${IMPORT_SIZE:-100000}"
+ENDPOINTS="${ENDPOINTS:-/api/v1/producers/intervals /api/v1/movies/winners}"
+PORT="${PORT:-18080}"
+JAR="${JAR:-target/golden-raspberry-awards-api-1.0.0.jar}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+WORK_DIR="$(mktemp -d)"
+importer_pid=""
+stop_importer() {
+  if [[ -n "$importer_pid" ]]; then
+    pkill -P "$importer_pid" 2>/dev/null || true
+    kill "$importer_pid" 2>/dev/null || true
+    wait "$importer_pid" 2>/dev/null || true
+    importer_pid=""
+  fi
+}
+trap 'stop_importer; rm -rf "$WORK_DIR"' EXIT
+
+if [[ ! -f "$JAR" ]]; then
+  ./mvnw -q -B -DskipTests package
+fi
+
+benchmark/generate-movies.sh "$IMPORT_SIZE" "$WORK_DIR/import.csv"
+
+urls=()
+for endpoint in $ENDPOINTS; do
+  urls+=("http://localhost:$PORT$endpoint")
+done
+
+log="$WORK_DIR/app.log"
+# shellcheck disable=SC2086
+java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" --logging.level.org.hibernate.SQL=WARN \
+  > "$log" 2>&1 &
+pid=$!
+
+until curl -sf "http://localhost:$PORT/api/v1/producers/intervals" | grep -q '"producer"'; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "Aplicacao encerrou antes de responder; veja o log:" >&2
+    tail -n 40 "$log" >&2
+    exit 1
+  fi
+  sleep 0.1
+done
+
+echo "phase=baseline $(java benchmark/LoadGenerator.java "$CLIENTS" "$DURATION" "${urls[@]}")"
+
+# Envia cargas continuamente; respostas 503 (fila cheia) sao esperadas e contadas
+(
+  while true; do
+    curl -s -o /dev/null -w '%{http_code}\n' -F "file=@$WORK_DIR/import.csv" \
+      "http://localhost:$PORT/api/data/upload-csv" >> "$WORK_DIR/imports.txt" || true
+  done
+) &
+importer_pid=$!
+
+echo "phase=importing $(java benchmark/LoadGenerator.java "$CLIENTS" "$DURATION" "${urls[@]}")"
+
+stop_importer
+# Cargas concluidas durante a fase, por status HTTP
+echo "imports: $(sort "$WORK_DIR/imports.txt" 2>/dev/null | uniq -c | awk '{printf "%s=%s ", $2, $1}')"
+
+kill "$pid"
+wait "$pid" 2>/dev/null || true
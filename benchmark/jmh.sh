@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+# Executa os microbenchmarks JMH de src/test/java/com/goldenraspberry/benchmark. Os argumentos sao
+# repassados ao JMH: filtro de benchmarks, -prof gc, -p parametro=valor, etc.
+#
+# Uso: benchmark/jmh.sh [regex de benchmarks] [opcoes do JMH]
+#   Exemplo: benchmark/jmh.sh MovieProjectionBenchmark -prof gc
+#   JAVA_OPTS  opcoes extras da JVM que dispara os forks
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JAVA_OPTS="${JAVA_OPTS:-}"
+CLASSPATH_FILE="target/jmh-classpath.txt"
+
+./mvnw -q -B test-compile dependency:build-classpath \
+  -Dmdep.includeScope=test -Dmdep.outputFile="$CLASSPATH_FILE"
+
+# shellcheck disable=SC2086
+exec java --enable-preview $JAVA_OPTS \
+  -cp "target/test-classes:target/classes:$(cat "$CLASSPATH_FILE")" \
+  org.openjdk.jmh.Main "$@"
@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Compara a API principal (Spring MVC + JPA) com a variante reativa (WebFlux + R2DBC, em reactive/)
+# sob o mesmo perfil de carga: mesmos endpoints, concorrencias e duracao, com o gerador de carga
+# benchmark/LoadGenerator.java.
+#
+# Uso: benchmark/reactive-vs-mvc.sh [concorrencias...]
+#   CONCURRENCY  clientes simultaneos quando nenhum argumento e informado (padrao: "50 400 1000")
+#   DURATION     segundos de medicao por concorrencia, apos 5s de aquecimento (padrao: 20)
+#   ENDPOINTS    caminhos exercitados, alternados entre requisicoes
+#                (padrao: "/api/v1/movies/winners /api/v1/producers/intervals /api/v1/movies")
+#   VARIANTS     variantes comparadas (padrao: "mvc reactive")
+#   PORT         porta HTTP usada pela aplicacao (padrao: 18080)
+#   MVC_JAR      jar da API principal (padrao: target/golden-raspberry-awards-api-1.0.0.jar)
+#   REACTIVE_JAR jar da variante reativa
+#                (padrao: reactive/target/golden-raspberry-awards-reactive-1.0.0.jar)
+#   JAVA_OPTS    opcoes extras da JVM (as mesmas nas duas variantes)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${*:-${CONCURRENCY:-50 400 1000}}"
+DURATION="${DURATION:-20}"
+ENDPOINTS="${ENDPOINTS:-/api/v1/movies/winners /api/v1/producers/intervals /api/v1/movies}"
+VARIANTS="${VARIANTS:-mvc reactive}"
+PORT="${PORT:-18080}"
+MVC_JAR="${MVC_JAR:-target/golden-raspberry-awards-api-1.0.0.jar}"
+REACTIVE_JAR="${REACTIVE_JAR:-reactive/target/golden-raspberry-awards-reactive-1.0.0.jar}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# A variante reativa depende do jar "core" instalado pela API principal
+if [[ ! -f "$MVC_JAR" || ! -f "$REACTIVE_JAR" ]]; then
+  ./mvnw -q -B -DskipTests install
+  ./mvnw -q -B -DskipTests -f reactive/pom.xml package
+fi
+
+urls=()
+for endpoint in $ENDPOINTS; do
+  urls+=("http://localhost:$PORT$endpoint")
+done
+
+for variant in $VARIANTS; do
+  case "$variant" in
+    mvc) jar="$MVC_JAR"; app_args=(--logging.level.org.hibernate.SQL=WARN) ;;
+    reactive) jar="$REACTIVE_JAR"; app_args=() ;;
+    *) echo "Variante desconhecida: $variant" >&2; exit 2 ;;
+  esac
+
+  log="$WORK_DIR/app-$variant.log"
+  # shellcheck disable=SC2086
+  java --enable-preview $JAVA_OPTS -jar "$jar" --server.port="$PORT" "${app_args[@]}" \
+    > "$log" 2>&1 &
+  pid=$!
+
+  until curl -sf "http://localhost:$PORT/api/v1/producers/intervals" | grep -q '"producer"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Aplicacao encerrou antes de responder; veja o log:" >&2
+      tail -n 40 "$log" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+
+  for clients in $CONCURRENCY; do
+    result=$(java benchmark/LoadGenerator.java "$clients" "$DURATION" "${urls[@]}")
+    echo "variant=$variant $result"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+done
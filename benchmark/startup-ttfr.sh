@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Mede o tempo ate a primeira resposta bem sucedida de /api/v1/producers/intervals
+# (time-to-first-request) para diferentes tamanhos de base.
+#
+# Uso: benchmark/startup-ttfr.sh [tamanhos...]
+#   SIZES   tamanhos padrao quando nenhum argumento e informado ("default 10000 100000";
+#           "default" usa o movielist.csv embarcado)
+#   RUNS    execucoes por tamanho (padrao: 3)
+#   PORT    porta HTTP usada pela aplicacao (padrao: 18080)
+#   JAR     jar da aplicacao (padrao: target/golden-raspberry-awards-api-1.0.0.jar)
+#   JAVA_OPTS  opcoes extras da JVM (ex.: "-XX:TieredStopAtLevel=1")
+#   APP_DIR    diretorio de trabalho da aplicacao (padrao: raiz do projeto)
+#   APP_CMD    comando de inicializacao (padrao: "java $JAVA_OPTS -jar $JAR"); para o perfil
+#              cds: APP_DIR=target/cds APP_CMD="java @app.args"
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+SIZES="${*:-${SIZES:-default 10000 100000}}"
+RUNS="${RUNS:-3}"
+PORT="${PORT:-18080}"
+JAR="${JAR:-target/golden-raspberry-awards-api-1.0.0.jar}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+APP_DIR="${APP_DIR:-.}"
+APP_CMD="${APP_CMD:-java $JAVA_OPTS -jar $(pwd)/$JAR}"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+if [[ "$APP_DIR" == "." && ! -f "$JAR" ]]; then
+  ./mvnw -q -B -DskipTests package
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+printf '%-10s %-4s %10s %12s %14s %s\n' "size" "run" "ttfr_ms" "context_ms" "data_ready_ms" "phases"
+
+for size in $SIZES; do
+  csv_arg=()
+  if [[ "$size" != "default" ]]; then
+    benchmark/generate-movies.sh "$size" "$WORK_DIR/movies-$size.csv"
+    csv_arg=("--app.csv.file-path=file:$WORK_DIR/movies-$size.csv")
+  fi
+
+  for run in $(seq 1 "$RUNS"); do
+    log="$WORK_DIR/app-$size-$run.log"
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    (cd "$APP_DIR" && exec $APP_CMD \
+      --server.port="$PORT" \
+      --logging.level.org.hibernate.SQL=WARN \
+      "${csv_arg[@]}") > "$log" 2>&1 &
+    pid=$!
+
+    # Primeira resposta "bem sucedida" exige intervalos calculados, nao apenas HTTP 200
+    until curl -sf "http://localhost:$PORT/api/v1/producers/intervals" | grep -q '"producer"'; do
+      if ! kill -0 "$pid" 2>/dev/null; then
+        echo "Aplicacao encerrou antes de responder; veja o log:" >&2
+        tail -n 40 "$log" >&2
+        exit 1
+      fi
+      sleep 0.05
+    done
+    ttfr=$(( $(now_ms) - start ))
+
+    phases=$(curl -sf "http://localhost:$PORT/actuator/startupphases" || echo '{}')
+    context_ms=$(sed -n 's/.*"contextReadyMs":\([0-9]*\).*/\1/p' <<< "$phases")
+    data_ready_ms=$(sed -n 's/.*"jvmUptimeAtDataReadyMs":\([0-9]*\).*/\1/p' <<< "$phases")
+    phase_list=$(sed -n 's/.*"phases":{\([^}]*\)}.*/\1/p' <<< "$phases" | tr -d '"')
+
+    printf '%-10s %-4s %10s %12s %14s %s\n' "$size" "$run" "$ttfr" "${context_ms:--}" \
+      "${data_ready_ms:--}" "$phase_list"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+  done
+done
@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+# Compara vazao e latencia p99 com threads de plataforma (pool do Tomcat) e com virtual threads
+# (spring.threads.virtual.enabled=true) sob alta concorrencia, e detecta fixacao (pinning) da
+# thread portadora em blocos synchronized (ex.: codigo do H2/Hibernate).
+#
+# Uso: benchmark/virtual-threads.sh [concorrencias...]
+#   CONCURRENCY  clientes simultaneos quando nenhum argumento e informado (padrao: "50 400 1000")
+#   DURATION     segundos de medicao por concorrencia, apos 5s de aquecimento (padrao: 20)
+#   ENDPOINTS    caminhos exercitados, alternados entre requisicoes
+#                (padrao: "/api/v1/movies/winners /api/v1/producers/intervals /api/v1/movies/1")
+#   MODES        modos comparados (padrao: "platform virtual")
+#   PORT         porta HTTP usada pela aplicacao (padrao: 18080)
+#   JAR          jar da aplicacao (padrao: target/golden-raspberry-awards-api-1.0.0.jar)
+#   JAVA_OPTS    opcoes extras da JVM
+#
+# O pinning e reportado no modo virtual, detectado de duas formas:
+#   - jdk.tracePinnedThreads=short: pilha (resumida) de cada virtual thread que bloqueou segurando
+#     um monitor; os quadros marcados com "<== monitors" sao agregados por frequencia
+#   - evento JFR jdk.VirtualThreadPinned (bloqueios fixados acima de 20 ms)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+CONCURRENCY="${*:-${CONCURRENCY:-50 400 1000}}"
+DURATION="${DURATION:-20}"
+ENDPOINTS="${ENDPOINTS:-/api/v1/movies/winners /api/v1/producers/intervals /api/v1/movies/1}"
+MODES="${MODES:-platform virtual}"
+PORT="${PORT:-18080}"
+JAR="${JAR:-target/golden-raspberry-awards-api-1.0.0.jar}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+if [[ ! -f "$JAR" ]]; then
+  ./mvnw -q -B -DskipTests package
+fi
+
+urls=()
+for endpoint in $ENDPOINTS; do
+  urls+=("http://localhost:$PORT$endpoint")
+done
+
+for mode in $MODES; do
+  virtual=false
+  if [[ "$mode" == "virtual" ]]; then
+    virtual=true
+  fi
+  # Mesmas opcoes nos dois modos, para que o custo do JFR nao distorca a comparacao
+  pin_opts=(-Djdk.tracePinnedThreads=short
+    "-XX:StartFlightRecording=filename=$WORK_DIR/$mode.jfr,settings=default")
+
+  log="$WORK_DIR/app-$mode.log"
+  # shellcheck disable=SC2086
+  java $JAVA_OPTS "${pin_opts[@]}" -jar "$JAR" \
+    --server.port="$PORT" \
+    --spring.threads.virtual.enabled="$virtual" \
+    --logging.level.org.hibernate.SQL=WARN > "$log" 2>&1 &
+  pid=$!
+
+  until curl -sf "http://localhost:$PORT/api/v1/producers/intervals" | grep -q '"producer"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "Aplicacao encerrou antes de responder; veja o log:" >&2
+      tail -n 40 "$log" >&2
+      exit 1
+    fi
+    sleep 0.1
+  done
+
+  for clients in $CONCURRENCY; do
+    result=$(java benchmark/LoadGenerator.java "$clients" "$DURATION" "${urls[@]}")
+    echo "mode=$mode $result"
+  done
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  if [[ "$mode" == "virtual" ]]; then
+    pinned=$(grep -c '<== monitors' "$log" || true)
+    echo "mode=$mode pinned_frames=$pinned"
+    if [[ "$pinned" -gt 0 ]]; then
+      echo "Quadros com monitor mais frequentes durante bloqueios fixados:"
+      grep '<== monitors' "$log" | sed 's/^[[:space:]]*//' | sort | uniq -c | sort -rn | head -n 15
+    fi
+    if [[ -f "$WORK_DIR/$mode.jfr" ]]; then
+      jfr_pinned=$(jfr print --events jdk.VirtualThreadPinned "$WORK_DIR/$mode.jfr" \
+        | grep -c 'jdk.VirtualThreadPinned' || true)
+      echo "mode=$mode jfr_virtual_thread_pinned_events=$jfr_pinned"
+    fi
+  fi
+done
@@ -0,0 +1,29 @@
+package com.goldenraspberry.reactive;
+
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import com.goldenraspberry.infrastructure.csv.MovieCsvLoader;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Variante reativa (WebFlux + R2DBC) da API de leitura. Reutiliza o dominio, os DTOs e casos de uso
+ * da aplicacao e o carregador de CSV da API principal; apenas os adaptadores (web e persistencia)
+ * sao reativos.
+ */
+@SpringBootApplication
+@Import(MovieCsvLoader.class)
+public class GoldenRaspberryAwardsReactiveApplication {
+
+  /** Calculo de intervalos com a varredura escalar, sem o modulo incubado da Vector API */
+  @Bean
+  public ProducerIntervalCalculator producerIntervalCalculator() {
+    return new ProducerIntervalCalculator(ColumnScan.scalar());
+  }
+
+  public static void main(String[] args) {
+    SpringApplication.run(GoldenRaspberryAwardsReactiveApplication.class, args);
+  }
+}
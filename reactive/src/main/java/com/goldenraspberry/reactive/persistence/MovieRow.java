@@ -0,0 +1,15 @@
+package com.goldenraspberry.reactive.persistence;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/** Linha da tabela movies (mesmo esquema da API principal) */
+@Table("movies")
+public record MovieRow(
+    @Id Long id,
+    @Column("movie_year") Integer year,
+    String title,
+    String studios,
+    String producers, // Armazenado como string separada por virgulas
+    Boolean winner) {}
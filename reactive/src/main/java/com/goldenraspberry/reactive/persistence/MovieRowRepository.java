@@ -0,0 +1,24 @@
+package com.goldenraspberry.reactive.persistence;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/** Repositorio R2DBC da tabela movies */
+@Repository
+public interface MovieRowRepository extends ReactiveCrudRepository<MovieRow, Long> {
+
+  /**
+   * Todos os filmes ordenados por ID, emitidos conforme a demanda do assinante
+   *
+   * @return Fluxo de filmes
+   */
+  Flux<MovieRow> findAllByOrderByIdAsc();
+
+  /**
+   * Filmes vencedores ordenados por ID
+   *
+   * @return Fluxo de filmes vencedores
+   */
+  Flux<MovieRow> findByWinnerTrueOrderByIdAsc();
+}
@@ -0,0 +1,43 @@
+package com.goldenraspberry.reactive.persistence;
+
+import com.goldenraspberry.infrastructure.csv.MovieCsvLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/** Carrega o CSV de filmes na base R2DBC na inicializacao, se a base estiver vazia */
+@Component
+public class ReactiveDataInitializer implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReactiveDataInitializer.class);
+
+  private final MovieCsvLoader csvLoader;
+  private final ReactiveMovieRepository movieRepository;
+
+  @Autowired
+  public ReactiveDataInitializer(
+      MovieCsvLoader csvLoader, ReactiveMovieRepository movieRepository) {
+    this.csvLoader = csvLoader;
+    this.movieRepository = movieRepository;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    // Executa uma unica vez, na thread principal, antes de a aplicacao ser considerada pronta
+    Long loaded =
+        movieRepository
+            .count()
+            .flatMap(
+                count ->
+                    count > 0
+                        ? Mono.just(0L)
+                        : Mono.fromCallable(csvLoader::loadMovies)
+                            .flatMap(movies -> movieRepository.saveAll(movies).count()))
+            .block();
+    logger.info("{} filmes carregados na base reativa", loaded);
+  }
+}
@@ -0,0 +1,92 @@
+package com.goldenraspberry.reactive.persistence;
+
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
+import com.goldenraspberry.domain.model.Year;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adaptador reativo das leituras de MovieRepository: mesmas consultas, expostas como Flux/Mono de
+ * filmes do dominio sobre R2DBC, sem bloquear threads
+ */
+@Component
+public class ReactiveMovieRepository {
+
+  private static final String PRODUCER_SEPARATOR = ", ";
+
+  private final MovieRowRepository rowRepository;
+
+  @Autowired
+  public ReactiveMovieRepository(MovieRowRepository rowRepository) {
+    this.rowRepository = rowRepository;
+  }
+
+  /**
+   * Busca todos os filmes, ordenados por ID
+   *
+   * @return Fluxo de filmes
+   */
+  public Flux<Movie> findAll() {
+    return rowRepository.findAllByOrderByIdAsc().map(this::toDomain);
+  }
+
+  /**
+   * Busca os filmes vencedores, ordenados por ID
+   *
+   * @return Fluxo de filmes vencedores
+   */
+  public Flux<Movie> findAllWinners() {
+    return rowRepository.findByWinnerTrueOrderByIdAsc().map(this::toDomain);
+  }
+
+  /**
+   * Conta os filmes cadastrados
+   *
+   * @return Total de filmes
+   */
+  public Mono<Long> count() {
+    return rowRepository.count();
+  }
+
+  /**
+   * Salva os filmes
+   *
+   * @param movies Filmes a salvar
+   * @return Fluxo dos filmes salvos, com ID
+   */
+  public Flux<Movie> saveAll(List<Movie> movies) {
+    return rowRepository.saveAll(movies.stream().map(this::toRow).toList()).map(this::toDomain);
+  }
+
+  private Movie toDomain(MovieRow row) {
+    return new Movie(
+        row.id(),
+        Year.of(row.year()),
+        row.title(),
+        row.studios(),
+        parseProducers(row.producers()),
+        Boolean.TRUE.equals(row.winner()));
+  }
+
+  private MovieRow toRow(Movie movie) {
+    return new MovieRow(
+        movie.getId(),
+        movie.getYear().getValue(),
+        movie.getTitle(),
+        movie.getStudios(),
+        movie.getProducers().stream()
+            .map(Producer::getName)
+            .collect(Collectors.joining(PRODUCER_SEPARATOR)),
+        movie.isWinner());
+  }
+
+  private List<Producer> parseProducers(String producersString) {
+    return ProducerTokenizer.parse(producersString);
+  }
+}
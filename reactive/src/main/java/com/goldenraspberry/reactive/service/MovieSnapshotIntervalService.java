@@ -0,0 +1,44 @@
+package com.goldenraspberry.reactive.service;
+
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.ProducerInterval;
+import com.goldenraspberry.domain.port.ProducerIntervalService;
+import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ProducerIntervalService sobre uma lista de filmes ja lida da base. Permite executar o caso de uso
+ * de intervalos, que e sincrono, depois que a leitura reativa termina, sem bloquear na consulta.
+ */
+public class MovieSnapshotIntervalService implements ProducerIntervalService {
+
+  private final List<Movie> movies;
+  private final ProducerIntervalCalculator intervalCalculator;
+
+  public MovieSnapshotIntervalService(
+      List<Movie> movies, ProducerIntervalCalculator intervalCalculator) {
+    this.movies = movies;
+    this.intervalCalculator = intervalCalculator;
+  }
+
+  @Override
+  public Map<String, List<ProducerInterval>> getMinMaxIntervals() {
+    return intervalCalculator.findMinMaxIntervals(movies);
+  }
+
+  @Override
+  public Map<String, List<ProducerInterval>> getAllProducerIntervals() {
+    return intervalCalculator.calculateAllIntervals(movies);
+  }
+
+  @Override
+  public List<ProducerInterval> getIntervalsForProducer(String producerName) {
+    return getAllProducerIntervals().getOrDefault(producerName, List.of());
+  }
+
+  @Override
+  public void refreshIntervals() {
+    // Instantaneo imutavel: nada a atualizar
+  }
+}
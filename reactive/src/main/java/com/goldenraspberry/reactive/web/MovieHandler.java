@@ -0,0 +1,79 @@
+package com.goldenraspberry.reactive.web;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.ProducerIntervalResponseDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.application.usecase.GetProducerIntervalsUseCase;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import com.goldenraspberry.reactive.persistence.ReactiveMovieRepository;
+import com.goldenraspberry.reactive.service.MovieSnapshotIntervalService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Handlers WebFlux da API de leitura. As listas de filmes sao emitidas a medida que as linhas
+ * chegam do R2DBC, respeitando a demanda (backpressure) da conexao HTTP.
+ */
+@Component
+public class MovieHandler {
+
+  private final ReactiveMovieRepository movieRepository;
+  private final ProducerIntervalCalculator intervalCalculator;
+
+  @Autowired
+  public MovieHandler(
+      ReactiveMovieRepository movieRepository, ProducerIntervalCalculator intervalCalculator) {
+    this.movieRepository = movieRepository;
+    this.intervalCalculator = intervalCalculator;
+  }
+
+  /**
+   * GET /api/v1/producers/intervals. Le todos os filmes de forma reativa e executa o caso de uso de
+   * intervalos da aplicacao fora do event loop, pois o calculo e dominado por CPU.
+   */
+  public Mono<ServerResponse> getProducerIntervals(ServerRequest request) {
+    Mono<ProducerIntervalResponseDto> intervals =
+        movieRepository
+            .findAll()
+            .collectList()
+            .publishOn(Schedulers.parallel())
+            .map(
+                movies ->
+                    new GetProducerIntervalsUseCase(
+                            new MovieSnapshotIntervalService(movies, intervalCalculator))
+                        .execute());
+
+    return ServerResponse.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(intervals, ProducerIntervalResponseDto.class);
+  }
+
+  /** GET /api/v1/movies. Array JSON ou, com Accept: application/x-ndjson, um filme por linha. */
+  public Mono<ServerResponse> getAllMovies(ServerRequest request) {
+    return stream(request, movieRepository.findAll());
+  }
+
+  /** GET /api/v1/movies/winners */
+  public Mono<ServerResponse> getWinnerMovies(ServerRequest request) {
+    return stream(request, movieRepository.findAllWinners());
+  }
+
+  private Mono<ServerResponse> stream(ServerRequest request, Flux<Movie> movies) {
+    // Apenas pedido explicito de NDJSON; "*/*" continua recebendo o array JSON da API principal
+    MediaType contentType =
+        request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+            ? MediaType.APPLICATION_NDJSON
+            : MediaType.APPLICATION_JSON;
+
+    return ServerResponse.ok()
+        .contentType(contentType)
+        .body(movies.map(MovieDtoMapper::toDto), MovieDto.class);
+  }
+}
@@ -0,0 +1,21 @@
+package com.goldenraspberry.reactive.web;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/** Rotas da API de leitura reativa, nos mesmos caminhos da API principal */
+@Configuration
+public class MovieRouter {
+
+  @Bean
+  public RouterFunction<ServerResponse> movieRoutes(MovieHandler handler) {
+    return RouterFunctions.route(GET("/api/v1/producers/intervals"), handler::getProducerIntervals)
+        .andRoute(GET("/api/v1/movies/winners"), handler::getWinnerMovies)
+        .andRoute(GET("/api/v1/movies"), handler::getAllMovies);
+  }
+}
@@ -0,0 +1,14 @@
+-- Mesmo esquema da tabela movies da API principal (gerado pelo Hibernate naquela variante)
+CREATE TABLE IF NOT EXISTS movies (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    movie_year INT NOT NULL,
+    title VARCHAR(500) NOT NULL,
+    studios VARCHAR(500),
+    producers VARCHAR(1000) NOT NULL,
+    winner BOOLEAN NOT NULL,
+    CONSTRAINT uk_movie_title_year UNIQUE (title, movie_year)
+);
+
+CREATE INDEX IF NOT EXISTS idx_movie_year_id ON movies (movie_year, id);
+CREATE INDEX IF NOT EXISTS idx_movie_title_id ON movies (title, id);
+CREATE INDEX IF NOT EXISTS idx_movie_winner ON movies (winner);
@@ -0,0 +1,96 @@
+package com.goldenraspberry.reactive.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/** Testes de integração da API de leitura reativa */
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ReactiveMovieApiIntegrationTest {
+
+  @Autowired private WebTestClient webTestClient;
+
+  /** Mesmo resultado da API principal para o movielist.csv */
+  @Test
+  void shouldReturnProducerIntervals() {
+    webTestClient
+        .get()
+        .uri("/api/v1/producers/intervals")
+        .exchange()
+        .expectStatus()
+        .isOk()
+        .expectBody()
+        .jsonPath("$.min[0].producer")
+        .isEqualTo("Joel Silver")
+        .jsonPath("$.min[0].interval")
+        .isEqualTo(1)
+        .jsonPath("$.max[0].producer")
+        .isEqualTo("Matthew Vaughn")
+        .jsonPath("$.max[0].interval")
+        .isEqualTo(13);
+  }
+
+  @Test
+  void shouldReturnMoviesAsJsonArrayAndWinnersOnly() {
+    List<MovieDto> movies =
+        webTestClient
+            .get()
+            .uri("/api/v1/movies")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+            .expectBodyList(MovieDto.class)
+            .returnResult()
+            .getResponseBody();
+
+    List<MovieDto> winners =
+        webTestClient
+            .get()
+            .uri("/api/v1/movies/winners")
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectBodyList(MovieDto.class)
+            .returnResult()
+            .getResponseBody();
+
+    assertThat(movies).hasSize(206);
+    assertThat(winners).isNotEmpty().allMatch(MovieDto::getWinner);
+    assertThat(winners).hasSize((int) movies.stream().filter(MovieDto::getWinner).count());
+  }
+
+  /** O NDJSON e consumido sob demanda: o cliente pede poucos itens e cancela o restante */
+  @Test
+  void shouldStreamMoviesAsNdjsonWithBackpressure() {
+    Flux<MovieDto> stream =
+        webTestClient
+            .get()
+            .uri("/api/v1/movies")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(MovieDto.class)
+            .getResponseBody();
+
+    StepVerifier.create(stream, 3)
+        .expectNextMatches(movie -> movie.getId() != null && movie.getTitle() != null)
+        .expectNextCount(2)
+        .thenCancel()
+        .verify();
+  }
+}
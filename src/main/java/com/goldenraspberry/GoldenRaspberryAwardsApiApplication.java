@@ -3,6 +3,7 @@ package com.goldenraspberry;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 /**
  * Classe principal da aplicacao Golden Raspberry Awards API. API RESTful para consulta de
@@ -12,7 +13,13 @@ import org.springframework.boot.autoconfigure.domain.EntityScan;
 @EntityScan(basePackages = "com.goldenraspberry.infrastructure.persistence.entity")
 public class GoldenRaspberryAwardsApiApplication {
 
+  /** Capacidade do buffer de passos de inicializacao exposto em /actuator/startup */
+  private static final int STARTUP_STEPS_CAPACITY = 4096;
+
   public static void main(String[] args) {
-    SpringApplication.run(GoldenRaspberryAwardsApiApplication.class, args);
+    SpringApplication application =
+        new SpringApplication(GoldenRaspberryAwardsApiApplication.class);
+    application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+    application.run(args);
   }
 }
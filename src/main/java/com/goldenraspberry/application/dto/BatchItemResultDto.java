@@ -0,0 +1,93 @@
+package com.goldenraspberry.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/** DTO com o resultado de um item de uma operacao em lote */
+@Schema(description = "Resultado de um item da operação em lote")
+public class BatchItemResultDto {
+
+  /** Situacao final de um item do lote */
+  public enum Status {
+    CREATED,
+    UPDATED,
+    DELETED,
+    FAILED
+  }
+
+  @Schema(description = "Posição do item no lote (baseada em zero)")
+  private int index;
+
+  @Schema(description = "ID do filme afetado")
+  private Long id;
+
+  @Schema(description = "Situação do item")
+  private Status status;
+
+  @Schema(description = "Motivo da falha (apenas quando status = FAILED)")
+  private String error;
+
+  @Schema(description = "Filme gravado (apenas em criações e atualizações)")
+  private MovieDto movie;
+
+  public BatchItemResultDto() {}
+
+  public BatchItemResultDto(int index, Long id, Status status, String error, MovieDto movie) {
+    this.index = index;
+    this.id = id;
+    this.status = status;
+    this.error = error;
+    this.movie = movie;
+  }
+
+  /**
+   * Cria o resultado de um item que falhou
+   *
+   * @param index Posicao do item no lote
+   * @param id ID do filme, se conhecido
+   * @param error Motivo da falha
+   * @return Resultado com status FAILED
+   */
+  public static BatchItemResultDto failed(int index, Long id, String error) {
+    return new BatchItemResultDto(index, id, Status.FAILED, error, null);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Status getStatus() {
+    return status;
+  }
+
+  public void setStatus(Status status) {
+    this.status = status;
+  }
+
+  public String getError() {
+    return error;
+  }
+
+  public void setError(String error) {
+    this.error = error;
+  }
+
+  public MovieDto getMovie() {
+    return movie;
+  }
+
+  public void setMovie(MovieDto movie) {
+    this.movie = movie;
+  }
+}
@@ -0,0 +1,68 @@
+package com.goldenraspberry.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Comparator;
+import java.util.List;
+
+/** DTO com o resultado de uma operacao em lote, item a item */
+@Schema(description = "Resultado de uma operação em lote")
+public class BatchResultDto {
+
+  @Schema(description = "Quantidade de itens recebidos")
+  private int total;
+
+  @Schema(description = "Quantidade de itens processados com sucesso")
+  private int succeeded;
+
+  @Schema(description = "Quantidade de itens com falha")
+  private int failed;
+
+  @Schema(description = "Resultado de cada item, na ordem do lote")
+  private List<BatchItemResultDto> results;
+
+  public BatchResultDto() {}
+
+  public BatchResultDto(List<BatchItemResultDto> results) {
+    this.results =
+        results.stream().sorted(Comparator.comparingInt(BatchItemResultDto::getIndex)).toList();
+    this.total = results.size();
+    this.failed =
+        (int)
+            results.stream()
+                .filter(result -> result.getStatus() == BatchItemResultDto.Status.FAILED)
+                .count();
+    this.succeeded = total - failed;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public void setTotal(int total) {
+    this.total = total;
+  }
+
+  public int getSucceeded() {
+    return succeeded;
+  }
+
+  public void setSucceeded(int succeeded) {
+    this.succeeded = succeeded;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  public void setFailed(int failed) {
+    this.failed = failed;
+  }
+
+  public List<BatchItemResultDto> getResults() {
+    return results;
+  }
+
+  public void setResults(List<BatchItemResultDto> results) {
+    this.results = results;
+  }
+}
@@ -0,0 +1,87 @@
+package com.goldenraspberry.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/** DTO para resposta paginada por cursor (keyset) */
+@Schema(description = "Resposta paginada por cursor com token de continuação")
+public class CursorPageResponseDto<T> {
+
+  @Schema(description = "Lista de itens da página atual")
+  private List<T> content;
+
+  @Schema(description = "Tamanho da página")
+  private int size;
+
+  @Schema(description = "Campo de ordenação")
+  private String sort;
+
+  @Schema(description = "Token opaco para obter a próxima página (ausente na última página)")
+  private String nextCursor;
+
+  @Schema(description = "Se tem próxima página")
+  private boolean hasNext;
+
+  @Schema(description = "Total de elementos (apenas quando solicitado com includeTotal=true)")
+  private Long totalElements;
+
+  public CursorPageResponseDto() {}
+
+  public CursorPageResponseDto(
+      List<T> content, int size, String sort, String nextCursor, Long totalElements) {
+    this.content = content;
+    this.size = size;
+    this.sort = sort;
+    this.nextCursor = nextCursor;
+    this.hasNext = nextCursor != null;
+    this.totalElements = totalElements;
+  }
+
+  public List<T> getContent() {
+    return content;
+  }
+
+  public void setContent(List<T> content) {
+    this.content = content;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public String getSort() {
+    return sort;
+  }
+
+  public void setSort(String sort) {
+    this.sort = sort;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+  public boolean isHasNext() {
+    return hasNext;
+  }
+
+  public void setHasNext(boolean hasNext) {
+    this.hasNext = hasNext;
+  }
+
+  public Long getTotalElements() {
+    return totalElements;
+  }
+
+  public void setTotalElements(Long totalElements) {
+    this.totalElements = totalElements;
+  }
+}
@@ -0,0 +1,27 @@
+package com.goldenraspberry.application.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/** DTO para um item de atualizacao em lote (PATCH /movies/batch) */
+public class MovieBatchUpdateItemDto extends MovieInputDto {
+
+  @NotNull(message = "ID é obrigatório")
+  private Long id;
+
+  public MovieBatchUpdateItemDto() {}
+
+  public MovieBatchUpdateItemDto(
+      Long id, Integer year, String title, String studios, List<String> producers, Boolean winner) {
+    super(year, title, studios, producers, winner);
+    this.id = id;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+}
@@ -2,6 +2,7 @@ package com.goldenraspberry.application.exception;
 
 import com.goldenraspberry.application.dto.ProblemDetailDto;
 import com.goldenraspberry.common.exception.BusinessException;
+import com.goldenraspberry.common.exception.DeadlineExceededException;
 import com.goldenraspberry.common.exception.TechnicalException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.stream.Collectors;
@@ -68,6 +69,30 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(problemDetail, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Trata trabalho abandonado pelo prazo da requisicao ou por desconexao do cliente
+   *
+   * @param ex Excecao de prazo
+   * @param request Req web
+   * @return Resposta HTTP com erro 504
+   */
+  @ExceptionHandler(DeadlineExceededException.class)
+  public ResponseEntity<ProblemDetailDto> handleDeadlineExceededException(
+      DeadlineExceededException ex, WebRequest request) {
+
+    logger.info("Requisicao abandonada: {}", ex.getMessage());
+
+    ProblemDetailDto problemDetail =
+        new ProblemDetailDto(
+            "about:blank",
+            "Prazo Esgotado",
+            HttpStatus.GATEWAY_TIMEOUT.value(),
+            ex.getMessage(),
+            extractPath(request));
+
+    return new ResponseEntity<>(problemDetail, HttpStatus.GATEWAY_TIMEOUT);
+  }
+
   /**
    * Trata excecoes genericas nao mapeadas
    *
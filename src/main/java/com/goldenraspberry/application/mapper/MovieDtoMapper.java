@@ -0,0 +1,56 @@
+package com.goldenraspberry.application.mapper;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conversao unica de {@link Movie} para {@link MovieDto}, compartilhada por todos os casos de uso.
+ *
+ * <p>Evita streams e copias intermediarias: os nomes dos produtores vao direto para um array do
+ * tamanho exato e as listas de resultado sao pre-dimensionadas.
+ */
+public final class MovieDtoMapper {
+
+  private MovieDtoMapper() {}
+
+  /**
+   * Converte Movie do dominio para DTO
+   *
+   * @param movie Entidade do dominio
+   * @return DTO do filme
+   */
+  public static MovieDto toDto(Movie movie) {
+    return new MovieDto(
+        movie.getId(),
+        movie.getYear().getValue(),
+        movie.getTitle(),
+        movie.getStudios(),
+        producerNames(movie.getProducers()),
+        movie.isWinner());
+  }
+
+  /**
+   * Converte lista de filmes do dominio para DTOs
+   *
+   * @param movies Entidades do dominio
+   * @return DTOs dos filmes, na mesma ordem
+   */
+  public static List<MovieDto> toDtoList(List<Movie> movies) {
+    List<MovieDto> dtos = new ArrayList<>(movies.size());
+    for (Movie movie : movies) {
+      dtos.add(toDto(movie));
+    }
+    return dtos;
+  }
+
+  private static List<String> producerNames(List<Producer> producers) {
+    String[] names = new String[producers.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = producers.get(i).getName();
+    }
+    return List.of(names);
+  }
+}
@@ -0,0 +1,29 @@
+package com.goldenraspberry.application.port;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Porta de leitura para as listagens de filmes. A implementacao projeta a linha persistida direto
+ * em {@link MovieDto}, sem construir o modelo de dominio: as listagens nao executam regras de
+ * negocio, entao cada filme e copiado uma unica vez.
+ */
+public interface MovieReadModel {
+
+  /**
+   * Lista todos os filmes
+   *
+   * @return DTOs de todos os filmes
+   */
+  List<MovieDto> findAll();
+
+  /**
+   * Lista uma pagina de filmes
+   *
+   * @param pageable Configuracao de paginacao
+   * @return Pagina de DTOs com a contagem total
+   */
+  Page<MovieDto> findAll(Pageable pageable);
+}
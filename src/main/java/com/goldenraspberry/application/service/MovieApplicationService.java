@@ -1,19 +1,29 @@
 package com.goldenraspberry.application.service;
 
+import com.goldenraspberry.application.dto.BatchResultDto;
+import com.goldenraspberry.application.dto.CursorPageResponseDto;
+import com.goldenraspberry.application.dto.MovieBatchUpdateItemDto;
 import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.application.dto.MovieInputDto;
 import com.goldenraspberry.application.dto.PagedResponseDto;
 import com.goldenraspberry.application.dto.ProducerIntervalResponseDto;
 import com.goldenraspberry.application.usecase.CreateMovieUseCase;
+import com.goldenraspberry.application.usecase.CreateMoviesBatchUseCase;
 import com.goldenraspberry.application.usecase.DeleteMovieUseCase;
+import com.goldenraspberry.application.usecase.DeleteMoviesBatchUseCase;
 import com.goldenraspberry.application.usecase.GetAllMoviesPagedUseCase;
 import com.goldenraspberry.application.usecase.GetAllMoviesUseCase;
 import com.goldenraspberry.application.usecase.GetMovieByIdUseCase;
+import com.goldenraspberry.application.usecase.GetMoviesByCursorUseCase;
 import com.goldenraspberry.application.usecase.GetProducerIntervalsUseCase;
 import com.goldenraspberry.application.usecase.GetWinnerMoviesUseCase;
+import com.goldenraspberry.application.usecase.StreamAllMoviesUseCase;
 import com.goldenraspberry.application.usecase.UpdateMovieUseCase;
+import com.goldenraspberry.application.usecase.UpdateMoviesBatchUseCase;
 import com.goldenraspberry.common.exception.BusinessException;
+import com.goldenraspberry.common.exception.DeadlineExceededException;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -29,6 +39,12 @@ public class MovieApplicationService {
   private final UpdateMovieUseCase updateMovieUseCase;
   private final DeleteMovieUseCase deleteMovieUseCase;
   private final GetMovieByIdUseCase getMovieByIdUseCase;
+  private final GetMoviesByCursorUseCase getMoviesByCursorUseCase;
+  private final StreamAllMoviesUseCase streamAllMoviesUseCase;
+  private final CreateMoviesBatchUseCase createMoviesBatchUseCase;
+  private final UpdateMoviesBatchUseCase updateMoviesBatchUseCase;
+  private final DeleteMoviesBatchUseCase deleteMoviesBatchUseCase;
+  private final MovieWriteCoalescer writeCoalescer;
 
   @Autowired
   public MovieApplicationService(
@@ -39,7 +55,13 @@ public class MovieApplicationService {
       CreateMovieUseCase createMovieUseCase,
       UpdateMovieUseCase updateMovieUseCase,
       DeleteMovieUseCase deleteMovieUseCase,
-      GetMovieByIdUseCase getMovieByIdUseCase) {
+      GetMovieByIdUseCase getMovieByIdUseCase,
+      GetMoviesByCursorUseCase getMoviesByCursorUseCase,
+      StreamAllMoviesUseCase streamAllMoviesUseCase,
+      CreateMoviesBatchUseCase createMoviesBatchUseCase,
+      UpdateMoviesBatchUseCase updateMoviesBatchUseCase,
+      DeleteMoviesBatchUseCase deleteMoviesBatchUseCase,
+      MovieWriteCoalescer writeCoalescer) {
     this.getAllMoviesUseCase = getAllMoviesUseCase;
     this.getAllMoviesPagedUseCase = getAllMoviesPagedUseCase;
     this.getWinnerMoviesUseCase = getWinnerMoviesUseCase;
@@ -48,6 +70,12 @@ public class MovieApplicationService {
     this.updateMovieUseCase = updateMovieUseCase;
     this.deleteMovieUseCase = deleteMovieUseCase;
     this.getMovieByIdUseCase = getMovieByIdUseCase;
+    this.getMoviesByCursorUseCase = getMoviesByCursorUseCase;
+    this.streamAllMoviesUseCase = streamAllMoviesUseCase;
+    this.createMoviesBatchUseCase = createMoviesBatchUseCase;
+    this.updateMoviesBatchUseCase = updateMoviesBatchUseCase;
+    this.deleteMoviesBatchUseCase = deleteMoviesBatchUseCase;
+    this.writeCoalescer = writeCoalescer;
   }
 
   /**
@@ -59,11 +87,29 @@ public class MovieApplicationService {
   public List<MovieDto> getAllMovies() {
     try {
       return getAllMoviesUseCase.execute();
+    } catch (DeadlineExceededException e) {
+      throw e;
     } catch (Exception e) {
       throw new BusinessException("Erro ao obter todos os filmes: " + e.getMessage(), e);
     }
   }
 
+  /**
+   * Percorre todos os filmes do sistema, entregando cada um assim que e lido
+   *
+   * @param consumer Consumidor de cada filme, ordenado por ID
+   * @throws BusinessException se ocorrer erro de negocio
+   */
+  public void streamAllMovies(Consumer<MovieDto> consumer) {
+    try {
+      streamAllMoviesUseCase.execute(consumer);
+    } catch (DeadlineExceededException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new BusinessException("Erro ao percorrer todos os filmes: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * Obtem todos os filmes do sistema com paginacao
    *
@@ -81,6 +127,25 @@ public class MovieApplicationService {
     }
   }
 
+  /**
+   * Obtem filmes paginados por cursor (keyset), sem OFFSET e sem contagem por padrao
+   *
+   * @param cursor Token da pagina anterior (vazio para a primeira pagina)
+   * @param size Tamanho da pagina (nulo para o padrao do caso de uso)
+   * @param sort Campo para ordenacao (id, year ou title)
+   * @param includeTotal Se deve informar o total de elementos
+   * @return Resposta paginada com o cursor da proxima pagina
+   * @throws BusinessException se ocorrer erro de negocio
+   */
+  public CursorPageResponseDto<MovieDto> getMoviesByCursor(
+      String cursor, Integer size, String sort, boolean includeTotal) {
+    try {
+      return getMoviesByCursorUseCase.execute(cursor, size, sort, includeTotal);
+    } catch (Exception e) {
+      throw new BusinessException("Erro ao obter filmes por cursor: " + e.getMessage(), e);
+    }
+  }
+
   /**
    * Obtem apenas filmes vencedores
    *
@@ -90,6 +155,8 @@ public class MovieApplicationService {
   public List<MovieDto> getWinnerMovies() {
     try {
       return getWinnerMoviesUseCase.execute();
+    } catch (DeadlineExceededException e) {
+      throw e;
     } catch (Exception e) {
       throw new BusinessException("Erro ao obter filmes vencedores: " + e.getMessage(), e);
     }
@@ -105,6 +172,8 @@ public class MovieApplicationService {
   public ProducerIntervalResponseDto getProducerIntervals() {
     try {
       return getProducerIntervalsUseCase.execute();
+    } catch (DeadlineExceededException e) {
+      throw e;
     } catch (Exception e) {
       throw new BusinessException("Erro ao obter intervalos de produtores: " + e.getMessage(), e);
     }
@@ -119,7 +188,7 @@ public class MovieApplicationService {
    */
   public MovieDto createMovie(MovieInputDto movieInputDto) {
     try {
-      return createMovieUseCase.execute(movieInputDto);
+      return writeCoalescer.execute(() -> createMovieUseCase.execute(movieInputDto));
     } catch (Exception e) {
       throw new BusinessException("Erro ao criar filme: " + e.getMessage(), e);
     }
@@ -150,7 +219,7 @@ public class MovieApplicationService {
    */
   public MovieDto updateMovie(Long id, MovieInputDto movieInputDto) {
     try {
-      return updateMovieUseCase.execute(id, movieInputDto);
+      return writeCoalescer.execute(() -> updateMovieUseCase.execute(id, movieInputDto));
     } catch (Exception e) {
       throw new BusinessException("Erro ao atualizar filme: " + e.getMessage(), e);
     }
@@ -164,9 +233,58 @@ public class MovieApplicationService {
    */
   public void deleteMovie(Long id) {
     try {
-      deleteMovieUseCase.execute(id);
+      writeCoalescer.execute(
+          () -> {
+            deleteMovieUseCase.execute(id);
+            return null;
+          });
     } catch (Exception e) {
       throw new BusinessException("Erro ao deletar filme: " + e.getMessage(), e);
     }
   }
+
+  /**
+   * Cria filmes em lote
+   *
+   * @param movieInputDtos Dados dos filmes a serem criados
+   * @return Resultado de cada item do lote
+   * @throws BusinessException se ocorrer erro de negocio
+   */
+  public BatchResultDto createMovies(List<MovieInputDto> movieInputDtos) {
+    try {
+      return createMoviesBatchUseCase.execute(movieInputDtos);
+    } catch (Exception e) {
+      throw new BusinessException("Erro ao criar filmes em lote: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Atualiza filmes em lote
+   *
+   * @param items ID e novos dados de cada filme
+   * @return Resultado de cada item do lote
+   * @throws BusinessException se ocorrer erro de negocio
+   */
+  public BatchResultDto updateMovies(List<MovieBatchUpdateItemDto> items) {
+    try {
+      return updateMoviesBatchUseCase.execute(items);
+    } catch (Exception e) {
+      throw new BusinessException("Erro ao atualizar filmes em lote: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Deleta filmes em lote
+   *
+   * @param ids IDs dos filmes a serem deletados
+   * @return Resultado de cada item do lote
+   * @throws BusinessException se ocorrer erro de negocio
+   */
+  public BatchResultDto deleteMovies(List<Long> ids) {
+    try {
+      return deleteMoviesBatchUseCase.execute(ids);
+    } catch (Exception e) {
+      throw new BusinessException("Erro ao deletar filmes em lote: " + e.getMessage(), e);
+    }
+  }
 }
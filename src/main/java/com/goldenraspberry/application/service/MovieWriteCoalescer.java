@@ -0,0 +1,278 @@
+package com.goldenraspberry.application.service;
+
+import com.goldenraspberry.common.exception.DeadlineExceededException.Reason;
+import com.goldenraspberry.common.util.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Agrupa escritas concorrentes de filmes (criar, atualizar, deletar) em micro-lotes que fazem um
+ * unico commit. Cada chamador continua recebendo seu proprio resultado ou erro. Desabilitado por
+ * padrao (app.writes.group-commit.enabled); quando desabilitado, cada escrita executa diretamente
+ * na thread do chamador.
+ *
+ * <p>O chamador aguarda no maximo o prazo da requisicao ({@link Deadline}); uma escrita abandonada
+ * antes de entrar em um lote e descartada. No encerramento, escritas ainda na fila falham.
+ */
+@Component
+public class MovieWriteCoalescer {
+
+  private static final Logger logger = LoggerFactory.getLogger(MovieWriteCoalescer.class);
+
+  private final boolean enabled;
+  private final int maxBatchSize;
+  private final long maxWaitNanos;
+  private final TransactionTemplate transactionTemplate;
+  private final BlockingQueue<PendingWrite<?>> queue = new LinkedBlockingQueue<>();
+  private final DistributionSummary batchSizes;
+  private final Counter fallbacks;
+  private final Thread worker;
+
+  private volatile boolean running = true;
+
+  @Autowired
+  public MovieWriteCoalescer(
+      @Value("${app.writes.group-commit.enabled:false}") boolean enabled,
+      @Value("${app.writes.group-commit.max-batch-size:64}") int maxBatchSize,
+      @Value("${app.writes.group-commit.max-wait-ms:2}") long maxWaitMs,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxBatchSize = Math.max(1, maxBatchSize);
+    this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxWaitMs));
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSizes =
+        DistributionSummary.builder("movies.writes.group_commit.batch_size")
+            .description("Quantidade de escritas confirmadas por commit")
+            .register(meterRegistry);
+    this.fallbacks =
+        Counter.builder("movies.writes.group_commit.fallbacks")
+            .description("Lotes desfeitos e reexecutados com uma transacao por escrita")
+            .register(meterRegistry);
+
+    if (enabled) {
+      worker = new Thread(this::drainLoop, "movie-group-commit");
+      worker.setDaemon(true);
+      worker.start();
+    } else {
+      worker = null;
+    }
+  }
+
+  /**
+   * Executa uma escrita, agrupando-a com outras escritas concorrentes quando habilitado
+   *
+   * @param write Escrita a executar (caso de uso)
+   * @return Resultado da escrita
+   * @throws com.goldenraspberry.common.exception.DeadlineExceededException se o prazo da requisicao
+   *     expirar antes do resultado
+   */
+  public <T> T execute(Supplier<T> write) {
+    if (!enabled) {
+      return write.get();
+    }
+
+    PendingWrite<T> pending = new PendingWrite<>(write);
+    queue.add(pending);
+    // Verificado apos entrar na fila: um encerramento concorrente pode ja ter esvaziado a fila
+    if (!running && queue.remove(pending)) {
+      throw shuttingDown();
+    }
+    return await(pending);
+  }
+
+  private <T> T await(PendingWrite<T> pending) {
+    Deadline deadline = Deadline.current();
+    try {
+      Optional<Duration> remaining = deadline.remaining();
+      return remaining.isPresent()
+          ? pending.result.get(remaining.get().toNanos(), TimeUnit.NANOSECONDS)
+          : pending.result.get();
+    } catch (TimeoutException e) {
+      // Se a escrita ja entrou em um lote, ainda pode ser confirmada
+      pending.abandon();
+      throw deadline.abandon(Reason.EXPIRED);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      pending.abandon();
+      throw deadline.abandon(Reason.CLIENT_DISCONNECTED);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    running = false;
+    if (worker != null) {
+      worker.interrupt();
+    }
+    failQueued();
+  }
+
+  private void drainLoop() {
+    List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+    try {
+      while (running) {
+        try {
+          collect(queue.take(), batch);
+          long deadline = System.nanoTime() + maxWaitNanos;
+          while (batch.size() < maxBatchSize) {
+            PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+              break;
+            }
+            collect(next, batch);
+          }
+          if (!batch.isEmpty()) {
+            commitBatch(batch);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          IllegalStateException error = shuttingDown();
+          batch.forEach(pending -> pending.result.completeExceptionally(error));
+          break;
+        } catch (Throwable e) {
+          // Inclui Error: a thread segue atendendo os proximos lotes
+          logger.error("Erro inesperado no agrupamento de escritas: {}", e.getMessage(), e);
+          batch.forEach(pending -> pending.result.completeExceptionally(e));
+        } finally {
+          batch.clear();
+        }
+      }
+    } finally {
+      failQueued();
+    }
+  }
+
+  private static void collect(PendingWrite<?> pending, List<PendingWrite<?>> batch) {
+    if (pending.take()) {
+      batch.add(pending);
+    }
+  }
+
+  private void failQueued() {
+    PendingWrite<?> pending;
+    while ((pending = queue.poll()) != null) {
+      pending.result.completeExceptionally(shuttingDown());
+    }
+  }
+
+  private static IllegalStateException shuttingDown() {
+    return new IllegalStateException("Aplicação em encerramento; escrita não executada");
+  }
+
+  /**
+   * Executa o lote em uma unica transacao. Erros de negocio (lancados antes de qualquer escrita)
+   * ficam restritos a sua escrita; erros que invalidam a transacao desfazem o lote, que e entao
+   * reexecutado com uma transacao por escrita.
+   */
+  private void commitBatch(List<PendingWrite<?>> batch) {
+    List<Runnable> completions = new ArrayList<>(batch.size());
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            for (PendingWrite<?> pending : batch) {
+              completions.add(pending.runInCurrentTransaction(status));
+            }
+          });
+    } catch (RuntimeException e) {
+      fallbacks.increment();
+      logger.debug("Lote de {} escritas desfeito; reexecutando individualmente", batch.size(), e);
+      batch.forEach(this::commitIndividually);
+      return;
+    }
+
+    batchSizes.record(batch.size());
+    completions.forEach(Runnable::run);
+  }
+
+  private void commitIndividually(PendingWrite<?> pending) {
+    try {
+      pending.complete(transactionTemplate.execute(status -> pending.write.get()));
+    } catch (RuntimeException e) {
+      pending.result.completeExceptionally(e);
+    }
+    batchSizes.record(1);
+  }
+
+  /** Escrita aguardando execucao, com o resultado entregue ao chamador */
+  private static final class PendingWrite<T> {
+
+    private final Supplier<T> write;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final AtomicBoolean taken = new AtomicBoolean();
+
+    private PendingWrite(Supplier<T> write) {
+      this.write = write;
+    }
+
+    /**
+     * Reserva a escrita para um lote
+     *
+     * @return false se o chamador ja desistiu dela
+     */
+    private boolean take() {
+      return taken.compareAndSet(false, true);
+    }
+
+    /** Descarta a escrita se ela ainda nao entrou em um lote */
+    private void abandon() {
+      if (taken.compareAndSet(false, true)) {
+        result.cancel(false);
+      }
+    }
+
+    /**
+     * Executa a escrita na transacao do lote
+     *
+     * @return Acao que entrega o resultado ao chamador, executada apenas apos o commit
+     * @throws RuntimeException se o erro exigir desfazer o lote
+     */
+    private Runnable runInCurrentTransaction(TransactionStatus status) {
+      T value;
+      try {
+        value = write.get();
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        if (status.isRollbackOnly()) {
+          throw e;
+        }
+        return () -> result.completeExceptionally(e);
+      }
+      return () -> result.complete(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(Object value) {
+      result.complete((T) value);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.goldenraspberry.application.usecase;
 
 import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
 import com.goldenraspberry.common.annotation.UseCase;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Producer;
@@ -33,7 +34,7 @@ public class CreateMovieUseCase {
     Movie movie = convertToDomain(movieInput);
     Movie savedMovie = movieRepository.save(movie);
 
-    return convertToDto(savedMovie);
+    return MovieDtoMapper.toDto(savedMovie);
   }
 
   /**
@@ -58,33 +59,14 @@ public class CreateMovieUseCase {
    */
   private Movie convertToDomain(MovieInputDto movieInput) {
     List<Producer> producers =
-        movieInput.getProducers().stream().map(Producer::new).collect(Collectors.toList());
+        movieInput.getProducers().stream().map(Producer::of).collect(Collectors.toList());
 
     return new Movie(
         null, // ID sera gerado pelo repositorio
-        new Year(movieInput.getYear()),
+        Year.of(movieInput.getYear()),
         movieInput.getTitle(),
         movieInput.getStudios(),
         producers,
         movieInput.getWinner());
   }
-
-  /**
-   * Converte Movie do dominio para DTO de resposta
-   *
-   * @param movie Entidade do dominio
-   * @return DTO do filme
-   */
-  private MovieDto convertToDto(Movie movie) {
-    List<String> producerNames =
-        movie.getProducers().stream().map(Producer::getName).collect(Collectors.toList());
-
-    return new MovieDto(
-        movie.getId(),
-        movie.getYear().getValue(),
-        movie.getTitle(),
-        movie.getStudios(),
-        producerNames,
-        movie.isWinner());
-  }
 }
@@ -0,0 +1,146 @@
+package com.goldenraspberry.application.usecase;
+
+import com.goldenraspberry.application.dto.BatchItemResultDto;
+import com.goldenraspberry.application.dto.BatchResultDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.common.annotation.UseCase;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.Year;
+import com.goldenraspberry.domain.port.MovieRepository;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para criar filmes em lote Valida todo o lote com uma unica consulta de unicidade e
+ * grava os filmes validos em uma unica transacao
+ */
+@UseCase
+public class CreateMoviesBatchUseCase {
+
+  private final MovieRepository movieRepository;
+  private final Validator validator;
+
+  @Autowired
+  public CreateMoviesBatchUseCase(MovieRepository movieRepository, Validator validator) {
+    this.movieRepository = movieRepository;
+    this.validator = validator;
+  }
+
+  /**
+   * Executa o caso de uso para criar filmes em lote. Itens invalidos ou duplicados sao reportados
+   * individualmente e nao impedem a gravacao dos demais.
+   *
+   * @param movieInputs DTOs com os dados dos filmes
+   * @return Resultado de cada item do lote
+   * @throws IllegalArgumentException se o lote estiver vazio ou exceder o tamanho maximo
+   */
+  @Transactional
+  public BatchResultDto execute(List<MovieInputDto> movieInputs) {
+    MovieBatchSupport.validateBatchSize(movieInputs);
+
+    List<BatchItemResultDto> results = new ArrayList<>();
+    List<Integer> acceptedIndexes = new ArrayList<>();
+    List<Movie> acceptedMovies = new ArrayList<>();
+
+    Set<String> existingKeys = findExistingKeys(movieInputs);
+    Set<String> batchKeys = new HashSet<>();
+
+    for (int index = 0; index < movieInputs.size(); index++) {
+      MovieInputDto input = movieInputs.get(index);
+
+      String violations = MovieBatchSupport.validateItem(validator, input);
+      if (violations != null) {
+        results.add(BatchItemResultDto.failed(index, null, violations));
+        continue;
+      }
+
+      String key = MovieBatchSupport.key(input.getTitle(), input.getYear());
+      if (existingKeys.contains(key)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index,
+                null,
+                String.format(
+                    "Já existe um filme com título '%s' no ano %d",
+                    input.getTitle(), input.getYear())));
+        continue;
+      }
+      if (!batchKeys.add(key)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index, null, "Filme repetido no lote (mesmo título e ano de um item anterior)"));
+        continue;
+      }
+
+      try {
+        acceptedMovies.add(convertToDomain(input));
+        acceptedIndexes.add(index);
+      } catch (IllegalArgumentException e) {
+        batchKeys.remove(key);
+        results.add(BatchItemResultDto.failed(index, null, e.getMessage()));
+      }
+    }
+
+    List<Movie> savedMovies = movieRepository.saveAll(acceptedMovies);
+    for (int i = 0; i < savedMovies.size(); i++) {
+      Movie saved = savedMovies.get(i);
+      results.add(
+          new BatchItemResultDto(
+              acceptedIndexes.get(i),
+              saved.getId(),
+              BatchItemResultDto.Status.CREATED,
+              null,
+              MovieDtoMapper.toDto(saved)));
+    }
+
+    return new BatchResultDto(results);
+  }
+
+  /**
+   * Busca, em uma unica consulta, as chaves (titulo, ano) do lote que ja existem na base
+   *
+   * @param movieInputs Itens do lote
+   * @return Chaves ja existentes
+   */
+  private Set<String> findExistingKeys(List<MovieInputDto> movieInputs) {
+    Set<String> titles =
+        movieInputs.stream()
+            .map(MovieInputDto::getTitle)
+            .filter(title -> title != null)
+            .collect(Collectors.toSet());
+    if (titles.isEmpty()) {
+      return Set.of();
+    }
+
+    return movieRepository.findAllByTitleIn(titles).stream()
+        .map(movie -> MovieBatchSupport.key(movie.getTitle(), movie.getYear().getValue()))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Converte MovieInputDto para entidade de dominio
+   *
+   * @param movieInput DTO de entrada
+   * @return Entidade de dominio
+   */
+  private Movie convertToDomain(MovieInputDto movieInput) {
+    List<Producer> producers =
+        movieInput.getProducers().stream().map(Producer::of).collect(Collectors.toList());
+
+    return new Movie(
+        null, // ID sera gerado pelo repositorio
+        Year.of(movieInput.getYear()),
+        movieInput.getTitle(),
+        movieInput.getStudios(),
+        producers,
+        movieInput.getWinner());
+  }
+}
@@ -0,0 +1,78 @@
+package com.goldenraspberry.application.usecase;
+
+import com.goldenraspberry.application.dto.BatchItemResultDto;
+import com.goldenraspberry.application.dto.BatchResultDto;
+import com.goldenraspberry.common.annotation.UseCase;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.port.MovieRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para deletar filmes em lote Verifica a existencia de todos os IDs em uma consulta e
+ * remove os existentes com um unico comando
+ */
+@UseCase
+public class DeleteMoviesBatchUseCase {
+
+  private final MovieRepository movieRepository;
+
+  @Autowired
+  public DeleteMoviesBatchUseCase(MovieRepository movieRepository) {
+    this.movieRepository = movieRepository;
+  }
+
+  /**
+   * Executa o caso de uso para deletar filmes em lote. IDs inexistentes ou repetidos sao reportados
+   * individualmente e nao impedem a remocao dos demais.
+   *
+   * @param ids IDs dos filmes a deletar
+   * @return Resultado de cada item do lote
+   * @throws IllegalArgumentException se o lote estiver vazio ou exceder o tamanho maximo
+   */
+  @Transactional
+  public BatchResultDto execute(List<Long> ids) {
+    MovieBatchSupport.validateBatchSize(ids);
+
+    Set<Long> requestedIds = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+    Set<Long> existingIds =
+        requestedIds.isEmpty()
+            ? Set.of()
+            : movieRepository.findAllById(requestedIds).stream()
+                .map(Movie::getId)
+                .collect(Collectors.toSet());
+
+    List<BatchItemResultDto> results = new ArrayList<>();
+    List<Long> acceptedIds = new ArrayList<>();
+    Set<Long> batchIds = new HashSet<>();
+
+    for (int index = 0; index < ids.size(); index++) {
+      Long id = ids.get(index);
+      if (id == null) {
+        results.add(BatchItemResultDto.failed(index, null, "ID é obrigatório"));
+      } else if (!existingIds.contains(id)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index, id, String.format("Filme com ID %d não encontrado", id)));
+      } else if (!batchIds.add(id)) {
+        results.add(BatchItemResultDto.failed(index, id, "ID repetido no lote"));
+      } else {
+        acceptedIds.add(id);
+        results.add(
+            new BatchItemResultDto(index, id, BatchItemResultDto.Status.DELETED, null, null));
+      }
+    }
+
+    if (!acceptedIds.isEmpty()) {
+      movieRepository.deleteAllById(acceptedIds);
+    }
+
+    return new BatchResultDto(results);
+  }
+}
@@ -2,26 +2,25 @@ package com.goldenraspberry.application.usecase;
 
 import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.application.dto.PagedResponseDto;
+import com.goldenraspberry.application.port.MovieReadModel;
 import com.goldenraspberry.common.annotation.UseCase;
-import com.goldenraspberry.domain.model.Movie;
-import com.goldenraspberry.domain.port.MovieRepository;
-import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
-/** Caso de uso para obter todos os filmes com paginação */
+/**
+ * Caso de uso para obter todos os filmes com paginação, pela projecao direta da porta de leitura
+ */
 @UseCase
 public class GetAllMoviesPagedUseCase {
 
-  private final MovieRepository movieRepository;
+  private final MovieReadModel movieReadModel;
 
   @Autowired
-  public GetAllMoviesPagedUseCase(MovieRepository movieRepository) {
-    this.movieRepository = movieRepository;
+  public GetAllMoviesPagedUseCase(MovieReadModel movieReadModel) {
+    this.movieReadModel = movieReadModel;
   }
 
   /**
@@ -46,26 +45,12 @@ public class GetAllMoviesPagedUseCase {
 
     // Usa ordenação ascendente por padrão
     Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, sortBy));
-    Page<Movie> moviePage = movieRepository.findAll(pageable);
-
-    List<MovieDto> movieDtos =
-        moviePage.getContent().stream().map(this::convertToDto).collect(Collectors.toList());
+    Page<MovieDto> moviePage = movieReadModel.findAll(pageable);
 
     return new PagedResponseDto<>(
-        movieDtos, moviePage.getNumber(), moviePage.getSize(), moviePage.getTotalElements());
-  }
-
-  private MovieDto convertToDto(Movie movie) {
-    MovieDto dto = new MovieDto();
-    dto.setId(movie.getId());
-    dto.setYear(movie.getYear().getValue());
-    dto.setTitle(movie.getTitle());
-    dto.setStudios(movie.getStudios());
-    dto.setProducers(
-        movie.getProducers().stream()
-            .map(producer -> producer.getName())
-            .collect(Collectors.toList()));
-    dto.setWinner(movie.isWinner());
-    return dto;
+        moviePage.getContent(),
+        moviePage.getNumber(),
+        moviePage.getSize(),
+        moviePage.getTotalElements());
   }
 }
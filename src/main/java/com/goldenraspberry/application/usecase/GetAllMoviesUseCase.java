@@ -1,22 +1,23 @@
 package com.goldenraspberry.application.usecase;
 
 import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.port.MovieReadModel;
 import com.goldenraspberry.common.annotation.UseCase;
-import com.goldenraspberry.domain.model.Movie;
-import com.goldenraspberry.domain.port.MovieRepository;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 
-/** Caso de uso para obter todos os filmes Retorna lista completa de filmes do sistema */
+/**
+ * Caso de uso para obter todos os filmes Retorna lista completa de filmes do sistema. Leitura sem
+ * regra de negocio: usa a projecao direta da porta de leitura.
+ */
 @UseCase
 public class GetAllMoviesUseCase {
 
-  private final MovieRepository movieRepository;
+  private final MovieReadModel movieReadModel;
 
   @Autowired
-  public GetAllMoviesUseCase(MovieRepository movieRepository) {
-    this.movieRepository = movieRepository;
+  public GetAllMoviesUseCase(MovieReadModel movieReadModel) {
+    this.movieReadModel = movieReadModel;
   }
 
   /**
@@ -25,29 +26,6 @@ public class GetAllMoviesUseCase {
    * @return Lista de DTOs de filmes
    */
   public List<MovieDto> execute() {
-    List<Movie> movies = movieRepository.findAll();
-
-    return movies.stream().map(this::convertToDto).collect(Collectors.toList());
-  }
-
-  /**
-   * Converte Movie do dominio para DTO
-   *
-   * @param movie Entidade do dominio
-   * @return DTO do filme
-   */
-  private MovieDto convertToDto(Movie movie) {
-    List<String> producerNames =
-        movie.getProducers().stream()
-            .map(producer -> producer.getName())
-            .collect(Collectors.toList());
-
-    return new MovieDto(
-        movie.getId(),
-        movie.getYear().getValue(),
-        movie.getTitle(),
-        movie.getStudios(),
-        producerNames,
-        movie.isWinner());
+    return movieReadModel.findAll();
   }
 }
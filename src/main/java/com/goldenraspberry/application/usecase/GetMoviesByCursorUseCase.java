@@ -0,0 +1,142 @@
+package com.goldenraspberry.application.usecase;
+
+import com.goldenraspberry.application.dto.CursorPageResponseDto;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.common.annotation.UseCase;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.port.MovieRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+/**
+ * Caso de uso para obter filmes paginados por cursor (keyset). Cada pagina continua a partir da
+ * chave de ordenacao e do ID do ultimo filme da pagina anterior, sem OFFSET e sem contagem.
+ */
+@UseCase
+public class GetMoviesByCursorUseCase {
+
+  private static final String ID_FIELD = "id";
+  private static final Set<String> SORTABLE_FIELDS = Set.of(ID_FIELD, "year", "title");
+  private static final String CURSOR_SEPARATOR = "|";
+  private static final int DEFAULT_SIZE = 20;
+  private static final int MAX_SIZE = 100;
+
+  private final MovieRepository movieRepository;
+
+  @Autowired
+  public GetMoviesByCursorUseCase(MovieRepository movieRepository) {
+    this.movieRepository = movieRepository;
+  }
+
+  /**
+   * Executa o caso de uso para obter uma pagina de filmes a partir de um cursor
+   *
+   * @param cursor Token da pagina anterior (nulo ou vazio para a primeira pagina)
+   * @param size Tamanho da pagina (nulo ou fora de 1 a 100 usa o padrao, 20)
+   * @param sortBy Campo para ordenacao da primeira pagina (id, year ou title); nas paginas
+   *     seguintes prevalece o campo registrado no cursor
+   * @param includeTotal Se deve informar o total de elementos
+   * @return Resposta paginada com o cursor da proxima pagina
+   * @throws IllegalArgumentException se o cursor ou o campo de ordenacao forem invalidos
+   */
+  public CursorPageResponseDto<MovieDto> execute(
+      String cursor, Integer size, String sortBy, boolean includeTotal) {
+    int pageSize = size == null || size <= 0 || size > MAX_SIZE ? DEFAULT_SIZE : size;
+
+    String sortField;
+    KeysetScrollPosition position;
+    if (cursor == null || cursor.isBlank()) {
+      sortField = sortBy == null || sortBy.isBlank() ? ID_FIELD : sortBy.trim();
+      validateSortField(sortField);
+      position = ScrollPosition.keyset();
+    } else {
+      Map<String, Object> keys = decodeCursor(cursor);
+      sortField = keys.keySet().iterator().next();
+      position = ScrollPosition.forward(keys);
+    }
+
+    Sort sort = Sort.by(Sort.Direction.ASC, sortField);
+    if (!ID_FIELD.equals(sortField)) {
+      sort = sort.and(Sort.by(Sort.Direction.ASC, ID_FIELD));
+    }
+
+    Window<Movie> window = movieRepository.findAll(position, sort, pageSize);
+
+    List<MovieDto> movieDtos = MovieDtoMapper.toDtoList(window.getContent());
+
+    String nextCursor =
+        window.hasNext() && !window.isEmpty()
+            ? encodeCursor(sortField, window.getContent().get(window.size() - 1))
+            : null;
+    Long totalElements = includeTotal ? movieRepository.count() : null;
+
+    return new CursorPageResponseDto<>(movieDtos, pageSize, sortField, nextCursor, totalElements);
+  }
+
+  private void validateSortField(String sortField) {
+    if (!SORTABLE_FIELDS.contains(sortField)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Ordenação por cursor aceita apenas %s, mas foi '%s'", SORTABLE_FIELDS, sortField));
+    }
+  }
+
+  /**
+   * Codifica a posicao do ultimo filme no formato "campo|id|valor" em Base64 URL-safe
+   *
+   * @param sortField Campo de ordenacao
+   * @param last Ultimo filme da pagina
+   * @return Token opaco
+   */
+  private String encodeCursor(String sortField, Movie last) {
+    String sortValue =
+        switch (sortField) {
+          case "year" -> String.valueOf(last.getYear().getValue());
+          case "title" -> last.getTitle();
+          default -> "";
+        };
+    String raw = sortField + CURSOR_SEPARATOR + last.getId() + CURSOR_SEPARATOR + sortValue;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodifica o token nas chaves do keyset, com o campo de ordenacao primeiro
+   *
+   * @param cursor Token opaco
+   * @return Chaves da posicao (campo de ordenacao e id)
+   */
+  private Map<String, Object> decodeCursor(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + CURSOR_SEPARATOR, 3);
+      String sortField = parts[0];
+      validateSortField(sortField);
+      Long lastId = Long.valueOf(parts[1]);
+
+      Map<String, Object> keys = new LinkedHashMap<>();
+      switch (sortField) {
+        case "year" -> keys.put("year", Integer.valueOf(parts[2]));
+        case "title" -> keys.put("title", parts[2]);
+        default -> {
+          // Ordenacao por id usa apenas o proprio id
+        }
+      }
+      keys.put(ID_FIELD, lastId);
+      return keys;
+    } catch (RuntimeException e) {
+      throw new IllegalArgumentException("Cursor de paginação inválido", e);
+    }
+  }
+}
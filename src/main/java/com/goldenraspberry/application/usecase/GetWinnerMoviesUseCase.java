@@ -1,11 +1,11 @@
 package com.goldenraspberry.application.usecase;
 
 import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
 import com.goldenraspberry.common.annotation.UseCase;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.port.MovieRepository;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /** Caso de uso para obter filmes vencedores Retorna apenas filmes que ganharam o premio */
@@ -27,27 +27,6 @@ public class GetWinnerMoviesUseCase {
   public List<MovieDto> execute() {
     List<Movie> winnerMovies = movieRepository.findAllWinners();
 
-    return winnerMovies.stream().map(this::convertToDto).collect(Collectors.toList());
-  }
-
-  /**
-   * Converte Movie do dominio para DTO
-   *
-   * @param movie Entidade do dominio
-   * @return DTO do filme
-   */
-  private MovieDto convertToDto(Movie movie) {
-    List<String> producerNames =
-        movie.getProducers().stream()
-            .map(producer -> producer.getName())
-            .collect(Collectors.toList());
-
-    return new MovieDto(
-        movie.getId(),
-        movie.getYear().getValue(),
-        movie.getTitle(),
-        movie.getStudios(),
-        producerNames,
-        movie.isWinner());
+    return MovieDtoMapper.toDtoList(winnerMovies);
   }
 }
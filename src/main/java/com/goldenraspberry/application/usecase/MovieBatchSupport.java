@@ -0,0 +1,64 @@
+package com.goldenraspberry.application.usecase;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/** Regras comuns aos casos de uso de operacoes em lote */
+final class MovieBatchSupport {
+
+  /** Quantidade maxima de itens por lote */
+  static final int MAX_BATCH_SIZE = 1000;
+
+  private MovieBatchSupport() {}
+
+  /**
+   * Valida o tamanho do lote
+   *
+   * @param items Itens do lote
+   * @throws IllegalArgumentException se o lote estiver vazio ou exceder o tamanho maximo
+   */
+  static void validateBatchSize(List<?> items) {
+    if (items == null || items.isEmpty()) {
+      throw new IllegalArgumentException("O lote deve ter pelo menos um item");
+    }
+    if (items.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(
+          String.format("O lote deve ter no máximo %d itens", MAX_BATCH_SIZE));
+    }
+  }
+
+  /**
+   * Valida um item do lote com as anotacoes de Bean Validation do DTO
+   *
+   * @param validator Validador
+   * @param item Item do lote
+   * @return Mensagens de erro concatenadas, ou null se o item for valido
+   */
+  static <T> String validateItem(Validator validator, T item) {
+    if (item == null) {
+      return "Item do lote não pode ser nulo";
+    }
+    Set<ConstraintViolation<T>> violations = validator.validate(item);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  /**
+   * Chave de unicidade de um filme
+   *
+   * @param title Titulo do filme
+   * @param year Ano do filme
+   * @return Chave (ano, titulo)
+   */
+  static String key(String title, Integer year) {
+    return year + "\u0000" + title;
+  }
+}
@@ -0,0 +1,32 @@
+package com.goldenraspberry.application.usecase;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.common.annotation.UseCase;
+import com.goldenraspberry.domain.port.MovieRepository;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Caso de uso para percorrer todos os filmes Entrega cada filme ao consumidor assim que e lido, sem
+ * montar a lista completa em memoria
+ */
+@UseCase
+public class StreamAllMoviesUseCase {
+
+  private final MovieRepository movieRepository;
+
+  @Autowired
+  public StreamAllMoviesUseCase(MovieRepository movieRepository) {
+    this.movieRepository = movieRepository;
+  }
+
+  /**
+   * Executa o caso de uso para percorrer todos os filmes
+   *
+   * @param consumer Consumidor que recebe cada DTO de filme, ordenado por ID
+   */
+  public void execute(Consumer<MovieDto> consumer) {
+    movieRepository.forEachMovie(movie -> consumer.accept(MovieDtoMapper.toDto(movie)));
+  }
+}
@@ -2,6 +2,7 @@ package com.goldenraspberry.application.usecase;
 
 import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
 import com.goldenraspberry.common.annotation.UseCase;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Producer;
@@ -47,7 +48,7 @@ public class UpdateMovieUseCase {
     Movie savedMovie = movieRepository.save(updatedMovie);
 
     // Converter para DTO de resposta
-    return convertToDto(savedMovie);
+    return MovieDtoMapper.toDto(savedMovie);
   }
 
   /**
@@ -58,16 +59,11 @@ public class UpdateMovieUseCase {
    * @param year Novo ano do filme
    */
   private void validateUniqueMovieForUpdate(Long currentId, String title, Integer year) {
-    movieRepository.findAll().stream()
-        .filter(movie -> !movie.getId().equals(currentId))
-        .filter(movie -> movie.getTitle().equals(title))
-        .filter(movie -> movie.getYear().equals(year))
-        .findFirst()
-        .ifPresent(
-            movie -> {
-              throw new IllegalArgumentException(
-                  String.format("Já existe outro filme com título '%s' no ano %d", title, year));
-            });
+    boolean exists = movieRepository.existsByTitleAndYearAndIdNot(title, year, currentId);
+    if (exists) {
+      throw new IllegalArgumentException(
+          String.format("Já existe outro filme com título '%s' no ano %d", title, year));
+    }
   }
 
   /**
@@ -79,33 +75,14 @@ public class UpdateMovieUseCase {
    */
   private Movie convertToDomain(Long id, MovieInputDto movieInput) {
     List<Producer> producers =
-        movieInput.getProducers().stream().map(Producer::new).collect(Collectors.toList());
+        movieInput.getProducers().stream().map(Producer::of).collect(Collectors.toList());
 
     return new Movie(
         id,
-        new Year(movieInput.getYear()),
+        Year.of(movieInput.getYear()),
         movieInput.getTitle(),
         movieInput.getStudios(),
         producers,
         movieInput.getWinner());
   }
-
-  /**
-   * Converte Movie do dominio para DTO de resposta
-   *
-   * @param movie Entidade do dominio
-   * @return DTO do filme
-   */
-  private MovieDto convertToDto(Movie movie) {
-    List<String> producerNames =
-        movie.getProducers().stream().map(Producer::getName).collect(Collectors.toList());
-
-    return new MovieDto(
-        movie.getId(),
-        movie.getYear().getValue(),
-        movie.getTitle(),
-        movie.getStudios(),
-        producerNames,
-        movie.isWinner());
-  }
 }
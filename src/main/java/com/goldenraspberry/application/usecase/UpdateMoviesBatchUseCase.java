@@ -0,0 +1,190 @@
+package com.goldenraspberry.application.usecase;
+
+import com.goldenraspberry.application.dto.BatchItemResultDto;
+import com.goldenraspberry.application.dto.BatchResultDto;
+import com.goldenraspberry.application.dto.MovieBatchUpdateItemDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.common.annotation.UseCase;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.Year;
+import com.goldenraspberry.domain.port.MovieRepository;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para atualizar filmes em lote Verifica existencia e unicidade de todo o lote com
+ * consultas por conjunto e grava as alteracoes validas em uma unica transacao
+ */
+@UseCase
+public class UpdateMoviesBatchUseCase {
+
+  private final MovieRepository movieRepository;
+  private final Validator validator;
+
+  @Autowired
+  public UpdateMoviesBatchUseCase(MovieRepository movieRepository, Validator validator) {
+    this.movieRepository = movieRepository;
+    this.validator = validator;
+  }
+
+  /**
+   * Executa o caso de uso para atualizar filmes em lote. Itens invalidos, inexistentes ou que
+   * conflitam com outro filme sao reportados individualmente e nao impedem a gravacao dos demais.
+   *
+   * @param items Itens com o ID e os novos dados de cada filme
+   * @return Resultado de cada item do lote
+   * @throws IllegalArgumentException se o lote estiver vazio ou exceder o tamanho maximo
+   */
+  @Transactional
+  public BatchResultDto execute(List<MovieBatchUpdateItemDto> items) {
+    MovieBatchSupport.validateBatchSize(items);
+
+    Set<Long> existingIds = findExistingIds(items);
+    Map<String, Long> keyOwners = findKeyOwners(items);
+
+    List<BatchItemResultDto> results = new ArrayList<>();
+    List<Integer> acceptedIndexes = new ArrayList<>();
+    List<Movie> acceptedMovies = new ArrayList<>();
+    Set<Long> batchIds = new HashSet<>();
+    Set<String> batchKeys = new HashSet<>();
+
+    for (int index = 0; index < items.size(); index++) {
+      MovieBatchUpdateItemDto item = items.get(index);
+
+      String violations = MovieBatchSupport.validateItem(validator, item);
+      if (violations != null) {
+        results.add(
+            BatchItemResultDto.failed(index, item != null ? item.getId() : null, violations));
+        continue;
+      }
+
+      Long id = item.getId();
+      if (!existingIds.contains(id)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index, id, String.format("Filme com ID %d não encontrado", id)));
+        continue;
+      }
+      if (!batchIds.add(id)) {
+        results.add(BatchItemResultDto.failed(index, id, "ID repetido no lote"));
+        continue;
+      }
+
+      String key = MovieBatchSupport.key(item.getTitle(), item.getYear());
+      Long owner = keyOwners.get(key);
+      if (owner != null && !owner.equals(id)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index,
+                id,
+                String.format(
+                    "Já existe outro filme com título '%s' no ano %d",
+                    item.getTitle(), item.getYear())));
+        continue;
+      }
+      if (!batchKeys.add(key)) {
+        results.add(
+            BatchItemResultDto.failed(
+                index, id, "Filme repetido no lote (mesmo título e ano de um item anterior)"));
+        continue;
+      }
+
+      try {
+        acceptedMovies.add(convertToDomain(item));
+        acceptedIndexes.add(index);
+      } catch (IllegalArgumentException e) {
+        batchKeys.remove(key);
+        results.add(BatchItemResultDto.failed(index, id, e.getMessage()));
+      }
+    }
+
+    List<Movie> savedMovies = movieRepository.saveAll(acceptedMovies);
+    for (int i = 0; i < savedMovies.size(); i++) {
+      Movie saved = savedMovies.get(i);
+      results.add(
+          new BatchItemResultDto(
+              acceptedIndexes.get(i),
+              saved.getId(),
+              BatchItemResultDto.Status.UPDATED,
+              null,
+              MovieDtoMapper.toDto(saved)));
+    }
+
+    return new BatchResultDto(results);
+  }
+
+  /**
+   * Busca, em uma unica consulta, quais IDs do lote existem. Os filmes carregados ficam no contexto
+   * da transacao e sao reaproveitados na gravacao.
+   *
+   * @param items Itens do lote
+   * @return IDs existentes
+   */
+  private Set<Long> findExistingIds(List<MovieBatchUpdateItemDto> items) {
+    Set<Long> ids =
+        items.stream()
+            .filter(Objects::nonNull)
+            .map(MovieBatchUpdateItemDto::getId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    if (ids.isEmpty()) {
+      return Set.of();
+    }
+
+    return movieRepository.findAllById(ids).stream().map(Movie::getId).collect(Collectors.toSet());
+  }
+
+  /**
+   * Busca, em uma unica consulta, o ID do filme que hoje ocupa cada chave (titulo, ano) do lote
+   *
+   * @param items Itens do lote
+   * @return Mapa chave -> ID do filme
+   */
+  private Map<String, Long> findKeyOwners(List<MovieBatchUpdateItemDto> items) {
+    Set<String> titles =
+        items.stream()
+            .filter(Objects::nonNull)
+            .map(MovieBatchUpdateItemDto::getTitle)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    if (titles.isEmpty()) {
+      return Map.of();
+    }
+
+    Map<String, Long> owners = new HashMap<>();
+    for (Movie movie : movieRepository.findAllByTitleIn(titles)) {
+      owners.put(
+          MovieBatchSupport.key(movie.getTitle(), movie.getYear().getValue()), movie.getId());
+    }
+    return owners;
+  }
+
+  /**
+   * Converte o item do lote para entidade de dominio
+   *
+   * @param item Item do lote
+   * @return Entidade de dominio
+   */
+  private Movie convertToDomain(MovieBatchUpdateItemDto item) {
+    List<Producer> producers =
+        item.getProducers().stream().map(Producer::of).collect(Collectors.toList());
+
+    return new Movie(
+        item.getId(),
+        Year.of(item.getYear()),
+        item.getTitle(),
+        item.getStudios(),
+        producers,
+        item.getWinner());
+  }
+}
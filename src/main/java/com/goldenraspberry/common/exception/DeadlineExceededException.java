@@ -0,0 +1,28 @@
+package com.goldenraspberry.common.exception;
+
+/**
+ * Excecao para trabalho abandonado antes do fim: o prazo da requisicao expirou ou o cliente
+ * desconectou. Nao indica erro de negocio nem falha de sistema.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+  /** Motivo do abandono */
+  public enum Reason {
+    EXPIRED,
+    CLIENT_DISCONNECTED
+  }
+
+  private final Reason reason;
+
+  public DeadlineExceededException(Reason reason) {
+    super(
+        reason == Reason.EXPIRED
+            ? "Prazo da requisicao expirado"
+            : "Cliente desconectado antes do fim da requisicao");
+    this.reason = reason;
+  }
+
+  public Reason getReason() {
+    return reason;
+  }
+}
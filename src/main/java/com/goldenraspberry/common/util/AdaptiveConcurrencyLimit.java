@@ -0,0 +1,154 @@
+package com.goldenraspberry.common.util;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite adaptativo de requisicoes simultaneas (AIMD). Cada requisicao concluida abaixo do limite
+ * de latencia aumenta o limite em 1/limite (cerca de +1 a cada "janela" de requisicoes), desde que
+ * o limite esteja em uso; uma requisicao acima do limite de latencia o multiplica pelo fator de
+ * recuo. Uma reducao por janela: requisicoes iniciadas antes da ultima reducao ja refletem a mesma
+ * sobrecarga e nao reduzem de novo.
+ *
+ * <p>Requisicoes podem usar apenas uma fracao do limite ({@code share}): as de menor prioridade sao
+ * rejeitadas primeiro quando o limite diminui.
+ */
+public final class AdaptiveConcurrencyLimit {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final long latencyThresholdNanos;
+  private final double backoffRatio;
+  private final LongSupplier nanoClock;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final ReentrantLock lock = new ReentrantLock();
+  private volatile double limit;
+  private long lastDecreaseNanos;
+
+  /**
+   * Cria um limite adaptativo
+   *
+   * @param initialLimit Limite inicial
+   * @param minLimit Limite minimo
+   * @param maxLimit Limite maximo
+   * @param latencyThreshold Latencia a partir da qual o limite e reduzido
+   * @param backoffRatio Fator aplicado ao limite em cada reducao (entre 0 e 1)
+   */
+  public AdaptiveConcurrencyLimit(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      Duration latencyThreshold,
+      double backoffRatio) {
+    this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimit(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      Duration latencyThreshold,
+      double backoffRatio,
+      LongSupplier nanoClock) {
+    if (minLimit < 1 || maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "Limites invalidos: min=" + minLimit + ", max=" + maxLimit);
+    }
+    if (backoffRatio <= 0 || backoffRatio >= 1) {
+      throw new IllegalArgumentException("Fator de recuo deve estar entre 0 e 1: " + backoffRatio);
+    }
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.latencyThresholdNanos = latencyThreshold.toNanos();
+    this.backoffRatio = backoffRatio;
+    this.nanoClock = nanoClock;
+    this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+    this.lastDecreaseNanos = nanoClock.getAsLong();
+  }
+
+  /**
+   * Reserva uma vaga se houver espaco na fracao do limite permitida
+   *
+   * @param share Fracao do limite disponivel para a requisicao (entre 0 e 1)
+   * @return Vaga reservada, ou vazio se a requisicao deve ser rejeitada
+   */
+  public Optional<Permit> tryAcquire(double share) {
+    int allowed = Math.max(1, (int) (limit * share));
+    while (true) {
+      int current = inFlight.get();
+      if (current >= allowed) {
+        return Optional.empty();
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return Optional.of(new Permit(nanoClock.getAsLong()));
+      }
+    }
+  }
+
+  /** Limite atual de requisicoes simultaneas */
+  public int limit() {
+    return (int) limit;
+  }
+
+  /** Requisicoes em andamento */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  private void onRelease(long startNanos, int inFlightBeforeRelease, boolean sample) {
+    if (!sample) {
+      return;
+    }
+    long now = nanoClock.getAsLong();
+    lock.lock();
+    try {
+      double current = limit;
+      if (now - startNanos > latencyThresholdNanos) {
+        if (startNanos - lastDecreaseNanos >= 0) {
+          limit = Math.max(minLimit, current * backoffRatio);
+          lastDecreaseNanos = now;
+        }
+      } else if (inFlightBeforeRelease * 2 >= current) {
+        // So cresce quando o limite esta sendo usado: evita inflar o limite com pouca carga
+        limit = Math.min(maxLimit, current + 1 / current);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Vaga reservada; deve ser liberada uma unica vez ao fim da requisicao */
+  public final class Permit {
+
+    private final long startNanos;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(long startNanos) {
+      this.startNanos = startNanos;
+    }
+
+    /** Libera a vaga e usa a latencia da requisicao para ajustar o limite */
+    public void release() {
+      release(true);
+    }
+
+    /**
+     * Libera a vaga sem ajustar o limite, para requisicoes cuja duracao nao reflete a carga (por
+     * exemplo, respostas em streaming)
+     */
+    public void releaseWithoutSample() {
+      release(false);
+    }
+
+    private void release(boolean sample) {
+      if (released.compareAndSet(false, true)) {
+        onRelease(startNanos, inFlight.getAndDecrement(), sample);
+      }
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.goldenraspberry.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para chaves textuais. Responde "certamente ausente" ou "possivelmente presente";
+ * nunca produz falso negativo para chaves inseridas. Seguro para uso concorrente: insercoes e
+ * consultas podem ocorrer em paralelo sem bloqueio.
+ */
+public final class BloomFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  private BloomFilter(long bitCount, int hashCount) {
+    this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+    this.bitCount = (long) words.length() << 6;
+    this.hashCount = hashCount;
+  }
+
+  /**
+   * Cria um filtro dimensionado para a quantidade esperada de chaves
+   *
+   * @param expectedInsertions Quantidade esperada de chaves
+   * @param falsePositiveRate Taxa de falso positivo desejada (entre 0 e 1, exclusivo)
+   * @return Filtro vazio
+   * @throws IllegalArgumentException se a taxa estiver fora do intervalo
+   */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException(
+          "Taxa de falso positivo deve estar entre 0 e 1: " + falsePositiveRate);
+    }
+    long n = Math.max(1, expectedInsertions);
+    long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+    int hashes = Math.max(1, (int) Math.round((double) bits / n * LN2));
+    return new BloomFilter(bits, hashes);
+  }
+
+  /**
+   * Insere uma chave no filtro
+   *
+   * @param key Chave a inserir
+   */
+  public void put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      long mask = 1L << bit;
+      int index = (int) (bit >>> 6);
+      long word = words.get(index);
+      while ((word & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+        word = words.get(index);
+      }
+    }
+  }
+
+  /**
+   * Verifica se uma chave pode estar no filtro
+   *
+   * @param key Chave a verificar
+   * @return false se a chave certamente nao foi inserida; true se possivelmente foi
+   */
+  public boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Estima a taxa de falso positivo atual a partir da fracao de bits ligados
+   *
+   * @return Probabilidade estimada de falso positivo
+   */
+  public double expectedFalsePositiveRate() {
+    long setBits = 0;
+    for (int i = 0; i < words.length(); i++) {
+      setBits += Long.bitCount(words.get(i));
+    }
+    return Math.pow((double) setBits / bitCount, hashCount);
+  }
+
+  public long bitSize() {
+    return bitCount;
+  }
+
+  public int hashCount() {
+    return hashCount;
+  }
+
+  // Hash de 64 bits sobre os bytes UTF-8 (FNV-1a) seguido de mistura final
+  private static long hash(String key) {
+    long hash = 0xCBF29CE484222325L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001B3L;
+    }
+    return mix(hash);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xFF51AFD7ED558CCDL;
+    value ^= value >>> 33;
+    value *= 0xC4CEB9FE1A85EC53L;
+    value ^= value >>> 33;
+    return value;
+  }
+}
@@ -0,0 +1,49 @@
+package com.goldenraspberry.common.util;
+
+/**
+ * Varreduras sobre colunas primitivas: anos em {@code int[]} e selecoes de linhas em bitsets {@code
+ * long[]} (bit {@code i % 64} da palavra {@code i / 64} representa a linha {@code i}). A
+ * implementacao padrao e escalar ({@link #scalar()}); a aplicacao pode fornecer uma vetorizada com
+ * o mesmo resultado.
+ */
+public interface ColumnScan {
+
+  /**
+   * Menor valor entre as posicoes [0, length) selecionadas
+   *
+   * @param values Coluna
+   * @param length Quantidade de posicoes validas
+   * @param mask Bitset das posicoes consideradas
+   * @return Menor valor, ou {@link Integer#MAX_VALUE} se nenhuma posicao estiver selecionada
+   */
+  int min(int[] values, int length, long[] mask);
+
+  /**
+   * Maior valor entre as posicoes [0, length) selecionadas
+   *
+   * @param values Coluna
+   * @param length Quantidade de posicoes validas
+   * @param mask Bitset das posicoes consideradas
+   * @return Maior valor, ou {@link Integer#MIN_VALUE} se nenhuma posicao estiver selecionada
+   */
+  int max(int[] values, int length, long[] mask);
+
+  /**
+   * Diferencas entre valores consecutivos: {@code target[i] = values[i + 1] - values[i]} para i em
+   * [0, length - 1)
+   *
+   * @param values Coluna
+   * @param length Quantidade de posicoes validas
+   * @param target Destino, com pelo menos {@code length - 1} posicoes
+   */
+  void deltas(int[] values, int length, int[] target);
+
+  /**
+   * Implementacao escalar, disponivel em qualquer JVM
+   *
+   * @return Instancia compartilhada
+   */
+  static ColumnScan scalar() {
+    return ScalarColumnScan.INSTANCE;
+  }
+}
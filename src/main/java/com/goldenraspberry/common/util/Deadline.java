@@ -0,0 +1,168 @@
+package com.goldenraspberry.common.util;
+
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.exception.DeadlineExceededException.Reason;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Prazo de uma requisicao, propagado pela thread que executa o trabalho. Computacoes longas chamam
+ * {@link #checkCurrent()} em seus lacos e sao abandonadas com {@link DeadlineExceededException}
+ * quando o prazo expira ou a requisicao e cancelada (cliente desconectado).
+ *
+ * <p>Sem prazo associado a thread, {@link #current()} devolve um prazo que nunca expira: o mesmo
+ * codigo roda sem custo fora de requisicoes (inicializacao, testes, variante reativa).
+ */
+public final class Deadline {
+
+  private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+  private static final Deadline NONE = new Deadline(Long.MAX_VALUE, reason -> {});
+  // Limite de um prazo (cerca de 146 anos), abaixo do estouro de System.nanoTime() + prazo
+  private static final Duration MAX_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE / 2);
+
+  private final long expiresAtNanos;
+  private final Consumer<Reason> onAbandoned;
+  private final AtomicBoolean abandoned = new AtomicBoolean();
+  private volatile boolean cancelled;
+
+  private Deadline(long expiresAtNanos, Consumer<Reason> onAbandoned) {
+    this.expiresAtNanos = expiresAtNanos;
+    this.onAbandoned = onAbandoned;
+  }
+
+  /**
+   * Cria um prazo que expira apos o tempo informado
+   *
+   * @param timeout Tempo a partir de agora; negativos valem zero e acima do limite sao limitados
+   * @param onAbandoned Notificado uma unica vez quando o trabalho e abandonado
+   * @return Novo prazo
+   */
+  public static Deadline after(Duration timeout, Consumer<Reason> onAbandoned) {
+    // Limita antes de converter: um instante distante estouraria toMillis()/toNanos()
+    Duration bounded =
+        timeout.isNegative()
+            ? Duration.ZERO
+            : timeout.compareTo(MAX_TIMEOUT) > 0 ? MAX_TIMEOUT : timeout;
+    return new Deadline(System.nanoTime() + bounded.toNanos(), onAbandoned);
+  }
+
+  /**
+   * Cria um prazo que nao expira, encerrado apenas por cancelamento
+   *
+   * @param onAbandoned Notificado uma unica vez quando o trabalho e abandonado
+   * @return Novo prazo
+   */
+  public static Deadline unbounded(Consumer<Reason> onAbandoned) {
+    return new Deadline(Long.MAX_VALUE, onAbandoned);
+  }
+
+  /**
+   * Prazo associado a thread atual
+   *
+   * @return Prazo atual, ou um prazo que nunca expira
+   */
+  public static Deadline current() {
+    Deadline deadline = CURRENT.get();
+    return deadline != null ? deadline : NONE;
+  }
+
+  /**
+   * Verifica o prazo da thread atual
+   *
+   * @throws DeadlineExceededException se o prazo expirou ou a requisicao foi cancelada
+   */
+  public static void checkCurrent() {
+    Deadline deadline = CURRENT.get();
+    if (deadline != null) {
+      deadline.check();
+    }
+  }
+
+  /**
+   * Executa o trabalho com este prazo associado a thread atual
+   *
+   * @param work Trabalho a executar
+   * @return Resultado do trabalho
+   */
+  public <T> T call(Supplier<T> work) {
+    try (Scope scope = bind()) {
+      return work.get();
+    }
+  }
+
+  /**
+   * Associa este prazo a thread atual ate o fechamento do escopo
+   *
+   * @return Escopo que restaura o prazo anterior ao ser fechado
+   */
+  public Scope bind() {
+    Deadline previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    };
+  }
+
+  /**
+   * Verifica o prazo
+   *
+   * @throws DeadlineExceededException se o prazo expirou ou a requisicao foi cancelada
+   */
+  public void check() {
+    if (cancelled) {
+      throw abandon(Reason.CLIENT_DISCONNECTED);
+    }
+    if (expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos >= 0) {
+      throw abandon(Reason.EXPIRED);
+    }
+  }
+
+  /**
+   * Cancela o prazo: a proxima verificacao abandona o trabalho
+   *
+   * <p>Usado quando o cliente desconecta.
+   */
+  public void cancel() {
+    if (this != NONE) {
+      cancelled = true;
+    }
+  }
+
+  /**
+   * Registra o abandono do trabalho
+   *
+   * @param reason Motivo
+   * @return Excecao a lancar
+   */
+  public DeadlineExceededException abandon(Reason reason) {
+    if (this != NONE && abandoned.compareAndSet(false, true)) {
+      onAbandoned.accept(reason);
+    }
+    return new DeadlineExceededException(reason);
+  }
+
+  /**
+   * Tempo restante ate o prazo
+   *
+   * @return Tempo restante (zero se expirado), ou vazio se nao ha prazo
+   */
+  public Optional<Duration> remaining() {
+    if (expiresAtNanos == Long.MAX_VALUE) {
+      return Optional.empty();
+    }
+    return Optional.of(Duration.ofNanos(Math.max(0, expiresAtNanos - System.nanoTime())));
+  }
+
+  /** Escopo em que um prazo esta associado a thread */
+  public interface Scope extends AutoCloseable {
+    @Override
+    void close();
+  }
+}
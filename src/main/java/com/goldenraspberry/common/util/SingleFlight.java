@@ -0,0 +1,116 @@
+package com.goldenraspberry.common.util;
+
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa chamadas concorrentes identicas: enquanto uma computacao para a chave esta em andamento,
+ * as demais chamadas com a mesma chave aguardam e recebem o mesmo resultado (ou erro), em vez de
+ * repetir o trabalho. Nada e guardado apos o termino; a chamada seguinte computa novamente.
+ *
+ * <p>O resultado e compartilhado entre as chamadas e deve ser tratado como somente leitura. Cada
+ * chamada aguarda no maximo ate o proprio {@link Deadline}; se a computacao em andamento for
+ * abandonada pelo prazo de quem a iniciou, as demais chamadas ainda no prazo computam novamente.
+ */
+public final class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final Counter executed;
+  private final Counter shared;
+
+  /**
+   * Cria um agrupador com metricas proprias
+   *
+   * @param name Nome da computacao, usado como tag das metricas
+   * @param meterRegistry Registro de metricas
+   */
+  public SingleFlight(String name, MeterRegistry meterRegistry) {
+    this.executed = callCounter(meterRegistry, name, "executed");
+    this.shared = callCounter(meterRegistry, name, "shared");
+  }
+
+  /**
+   * Executa a computacao para a chave, ou aguarda a que ja esta em andamento
+   *
+   * @param key Chave que identifica computacoes equivalentes
+   * @param computation Computacao executada na thread da primeira chamada
+   * @return Resultado da computacao
+   */
+  public V execute(K key, Supplier<V> computation) {
+    CompletableFuture<V> flight = new CompletableFuture<>();
+    CompletableFuture<V> existing;
+    while ((existing = inFlight.putIfAbsent(key, flight)) != null) {
+      shared.increment();
+      try {
+        return await(existing);
+      } catch (LeaderAbandonedException e) {
+        // Abandonada pelo prazo de quem a iniciou: tenta de novo se esta ainda estiver no prazo
+        inFlight.remove(key, existing);
+        Deadline.current().check();
+      }
+    }
+
+    executed.increment();
+    try {
+      V value = computation.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private V await(CompletableFuture<V> flight) {
+    Deadline deadline = Deadline.current();
+    try {
+      Optional<Duration> remaining = deadline.remaining();
+      return remaining.isPresent()
+          ? flight.get(remaining.get().toNanos(), TimeUnit.NANOSECONDS)
+          : flight.get();
+    } catch (TimeoutException e) {
+      throw deadline.abandon(DeadlineExceededException.Reason.EXPIRED);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw deadline.abandon(DeadlineExceededException.Reason.CLIENT_DISCONNECTED);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof DeadlineExceededException) {
+        throw new LeaderAbandonedException();
+      }
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  /** Sinaliza que a computacao aguardada foi abandonada pelo prazo de outra chamada */
+  private static final class LeaderAbandonedException extends RuntimeException {
+    LeaderAbandonedException() {
+      super(null, null, false, false);
+    }
+  }
+
+  private static Counter callCounter(MeterRegistry meterRegistry, String name, String result) {
+    return Counter.builder("single_flight.calls")
+        .description("Chamadas por computacao, executadas ou compartilhadas com outra em andamento")
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,133 @@
+package com.goldenraspberry.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Armazena textos como UTF-8 em blocos grandes de memoria fora do heap ({@link
+ * ByteBuffer#allocateDirect}). Cada texto e identificado por um handle {@code long} (bloco,
+ * deslocamento e tamanho): milhoes de textos viram alguns blocos nativos em vez de milhoes de
+ * {@code String} no heap, que o GC nao precisa percorrer.
+ *
+ * <p>A escrita ({@link #append}) e feita por uma unica thread durante a construcao; depois disso a
+ * arena e somente leitura e pode ser lida por varias threads (as leituras usam posicoes absolutas).
+ * A memoria e devolvida quando a arena deixa de ser referenciada e os buffers sao coletados.
+ */
+public final class Utf8Arena {
+
+  /** Tamanho padrao de cada bloco: 8 MiB */
+  public static final int DEFAULT_CHUNK_BYTES = 8 << 20;
+
+  private static final int LENGTH_BITS = 16;
+  private static final int OFFSET_BITS = 24;
+  private static final int MAX_LENGTH = (1 << LENGTH_BITS) - 1;
+  private static final int MAX_CHUNK_BYTES = 1 << OFFSET_BITS;
+
+  /** Handle de texto nulo */
+  public static final long NULL = -1;
+
+  private final int chunkBytes;
+  private final List<ByteBuffer> chunks = new ArrayList<>();
+  private ByteBuffer current;
+  private long usedBytes;
+
+  /**
+   * Cria uma arena vazia
+   *
+   * @param chunkBytes Tamanho de cada bloco fora do heap (ate 16 MiB)
+   */
+  public Utf8Arena(int chunkBytes) {
+    if (chunkBytes <= 0 || chunkBytes > MAX_CHUNK_BYTES) {
+      throw new IllegalArgumentException("Bloco deve ter entre 1 byte e 16 MiB: " + chunkBytes);
+    }
+    this.chunkBytes = chunkBytes;
+  }
+
+  /**
+   * Copia o texto para a arena
+   *
+   * @param text Texto (pode ser nulo)
+   * @return Handle do texto, ou {@link #NULL}
+   * @throws IllegalArgumentException se o texto tiver mais de 65535 bytes em UTF-8
+   */
+  public long append(String text) {
+    if (text == null) {
+      return NULL;
+    }
+
+    byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > MAX_LENGTH || bytes.length > chunkBytes) {
+      throw new IllegalArgumentException("Texto grande demais para a arena: " + bytes.length);
+    }
+    if (current == null || current.remaining() < bytes.length) {
+      current = ByteBuffer.allocateDirect(chunkBytes);
+      chunks.add(current);
+    }
+
+    long offset = current.position();
+    current.put(bytes);
+    usedBytes += bytes.length;
+    long chunk = chunks.size() - 1;
+    return (chunk << (OFFSET_BITS + LENGTH_BITS)) | (offset << LENGTH_BITS) | bytes.length;
+  }
+
+  /**
+   * Tamanho do texto em bytes UTF-8
+   *
+   * @param handle Handle devolvido por {@link #append}
+   * @return Tamanho em bytes (zero para {@link #NULL})
+   */
+  public static int length(long handle) {
+    return handle == NULL ? 0 : (int) (handle & MAX_LENGTH);
+  }
+
+  /**
+   * Copia os bytes UTF-8 do texto para o array informado
+   *
+   * @param handle Handle devolvido por {@link #append} (diferente de {@link #NULL})
+   * @param target Destino, com pelo menos {@link #length(long)} posicoes a partir do inicio
+   * @return Quantidade de bytes copiados
+   */
+  public int copyTo(long handle, byte[] target) {
+    int length = length(handle);
+    int offset = (int) ((handle >>> LENGTH_BITS) & (MAX_CHUNK_BYTES - 1));
+    ByteBuffer chunk = chunks.get((int) (handle >>> (OFFSET_BITS + LENGTH_BITS)));
+    chunk.get(offset, target, 0, length);
+    return length;
+  }
+
+  /**
+   * Decodifica o texto para String
+   *
+   * @param handle Handle devolvido por {@link #append}
+   * @return Texto, ou null para {@link #NULL}
+   */
+  public String decode(long handle) {
+    if (handle == NULL) {
+      return null;
+    }
+    byte[] bytes = new byte[length(handle)];
+    copyTo(handle, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Bytes ocupados pelos textos
+   *
+   * @return Total de bytes UTF-8 armazenados
+   */
+  public long usedBytes() {
+    return usedBytes;
+  }
+
+  /**
+   * Memoria reservada fora do heap
+   *
+   * @return Soma do tamanho dos blocos alocados
+   */
+  public long reservedBytes() {
+    return (long) chunks.size() * chunkBytes;
+  }
+}
@@ -19,7 +19,9 @@ public class Movie {
     this.year = Objects.requireNonNull(year, "Year nao pode ser nulo");
     this.title = Objects.requireNonNull(title, "Title nao pode ser nulo");
     this.studios = studios;
-    this.producers = Objects.requireNonNull(producers, "Producers nao podem ser nulos");
+    // Copia unica na construcao: listas ja imutaveis sao reaproveitadas sem nova alocacao
+    this.producers =
+        List.copyOf(Objects.requireNonNull(producers, "Producers nao podem ser nulos"));
     this.winner = winner;
 
     validateTitle();
@@ -55,7 +57,7 @@ public class Movie {
   }
 
   public List<Producer> getProducers() {
-    return List.copyOf(producers);
+    return producers;
   }
 
   public boolean isWinner() {
@@ -2,9 +2,23 @@ package com.goldenraspberry.domain.model;
 
 import java.util.Objects;
 
-/** Producer value object Representa um Producer de filme com nome imutavel */
+/**
+ * Producer value object Representa um Producer de filme com nome imutavel. Os nomes se repetem
+ * muito entre filmes: {@link #of(String)} devolve uma instancia compartilhada por nome, de forma
+ * que filmes do mesmo Producer referenciam o mesmo objeto (e a mesma String). O pool guarda
+ * referencias fracas ({@link ProducerPool}): nomes que nenhum filme usa mais sao descartados.
+ */
 public class Producer {
 
+  /**
+   * Limite de nomes vivos no pool de instancias compartilhadas. Acima dele, nomes novos recebem
+   * instancias proprias: o pool nunca cresce sem limite, mesmo com cargas de nomes sempre
+   * diferentes.
+   */
+  static final int MAX_INTERNED = 65_536;
+
+  private static final ProducerPool POOL = new ProducerPool(MAX_INTERNED);
+
   private final String name;
 
   public Producer(String name) {
@@ -12,6 +26,27 @@ public class Producer {
     validateName();
   }
 
+  /**
+   * Obtem a instancia compartilhada do Producer com o nome informado
+   *
+   * @param name Nome do Producer
+   * @return Producer canonico (ou nova instancia se o pool estiver cheio)
+   * @throws IllegalArgumentException se o nome for vazio
+   */
+  public static Producer of(String name) {
+    Objects.requireNonNull(name, "Nome do Producer nao pode ser nulo");
+    return POOL.intern(name);
+  }
+
+  /**
+   * Quantidade de Producers no pool de instancias compartilhadas
+   *
+   * @return Tamanho do pool
+   */
+  public static int internedCount() {
+    return POOL.size();
+  }
+
   private void validateName() {
     if (name.trim().isEmpty()) {
       throw new IllegalArgumentException("Nome do Producer nao pode ser vazio");
@@ -27,12 +62,12 @@ public class Producer {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
     Producer producer = (Producer) o;
-    return Objects.equals(name, producer.name);
+    return name.equals(producer.name);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name);
+    return name.hashCode();
   }
 
   @Override
@@ -0,0 +1,89 @@
+package com.goldenraspberry.domain.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Pool concorrente de instancias compartilhadas de {@link Producer}, com referencias fracas: um
+ * nome permanece no pool apenas enquanto algum filme carregado referencia seu Producer. Nomes de
+ * bases substituidas saem do pool apos a coleta, sem depender de limpeza explicita.
+ *
+ * <p>A capacidade limita as entradas vivas ao mesmo tempo; acima dela, nomes novos recebem
+ * instancias proprias.
+ */
+final class ProducerPool {
+
+  private final int capacity;
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Producer> cleared = new ReferenceQueue<>();
+
+  ProducerPool(int capacity) {
+    this.capacity = capacity;
+  }
+
+  /**
+   * Obtem a instancia compartilhada do nome, criando-a se nenhum filme a referencia
+   *
+   * @param name Nome do Producer
+   * @return Producer compartilhado (ou nova instancia se o pool estiver cheio)
+   * @throws IllegalArgumentException se o nome for vazio
+   */
+  Producer intern(String name) {
+    Entry entry = entries.get(name);
+    Producer interned = entry != null ? entry.get() : null;
+    if (interned != null) {
+      return interned;
+    }
+
+    expungeCleared();
+    // Valida antes de inserir: nomes invalidos lancam excecao e nao entram no pool
+    Producer created = new Producer(name);
+    if (entries.size() >= capacity) {
+      return created;
+    }
+    Entry fresh = new Entry(created, cleared);
+    while ((entry = entries.putIfAbsent(name, fresh)) != null) {
+      interned = entry.get();
+      if (interned != null) {
+        return interned;
+      }
+      // Entrada de um Producer ja coletado: substitui, a menos que outra thread o tenha feito
+      if (entries.replace(name, entry, fresh)) {
+        break;
+      }
+    }
+    return created;
+  }
+
+  /**
+   * Quantidade de nomes no pool, descontadas as entradas ja coletadas e notificadas
+   *
+   * @return Tamanho do pool
+   */
+  int size() {
+    expungeCleared();
+    return entries.size();
+  }
+
+  private void expungeCleared() {
+    Reference<? extends Producer> reference;
+    while ((reference = cleared.poll()) != null) {
+      Entry entry = (Entry) reference;
+      entries.remove(entry.name, entry);
+    }
+  }
+
+  /** Referencia fraca ao Producer, com o nome para remover a entrada apos a coleta */
+  private static final class Entry extends WeakReference<Producer> {
+
+    private final String name;
+
+    private Entry(Producer producer, ReferenceQueue<Producer> queue) {
+      super(producer, queue);
+      this.name = producer.getName();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.goldenraspberry.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Tokenizador da coluna de produtores ("A, B and C", "A, B, and C"). Percorre a string uma unica
+ * vez reconhecendo os dois separadores (", " e " and "), sem expressao regular e sem strings
+ * intermediarias: cada nome vira um unico substring, ja sem espacos nas pontas, entregue ao pool de
+ * {@link Producer#of(String)}. Virgula sem espaco em seguida faz parte do nome ("A,B" e um unico
+ * produtor), como na separacao original por {@code split(", ")}.
+ *
+ * <p>Compartilhado pela leitura do CSV e pelo mapeamento das entidades, para que as duas entradas
+ * produzam exatamente os mesmos produtores.
+ */
+public final class ProducerTokenizer {
+
+  private static final String COMMA_SEPARATOR = ", ";
+  private static final String AND_SEPARATOR = " and ";
+  private static final String OXFORD_AND = "and ";
+  // A maioria dos filmes tem ate quatro produtores
+  private static final int EXPECTED_PRODUCERS = 4;
+
+  private ProducerTokenizer() {}
+
+  /**
+   * Separa a coluna de produtores em Producers canonicos
+   *
+   * @param producers Nomes separados por ", " ou " and "
+   * @return Producers na ordem da coluna (vazia se nao houver nenhum nome)
+   */
+  public static List<Producer> parse(String producers) {
+    List<Producer> result = new ArrayList<>(EXPECTED_PRODUCERS);
+    tokenize(producers, result::add);
+    return result;
+  }
+
+  /**
+   * Separa a coluna de produtores em nomes. Os nomes sao as Strings canonicas do pool de Producers:
+   * DTOs de filmes do mesmo produtor compartilham a mesma String.
+   *
+   * @param producers Nomes separados por ", " ou " and "
+   * @return Nomes na ordem da coluna (vazia se nao houver nenhum nome)
+   */
+  public static List<String> parseNames(String producers) {
+    List<String> result = new ArrayList<>(EXPECTED_PRODUCERS);
+    tokenize(producers, producer -> result.add(producer.getName()));
+    return result;
+  }
+
+  /**
+   * Percorre a coluna uma unica vez, entregando cada produtor ao consumidor
+   *
+   * @param value Coluna de produtores
+   * @param sink Recebe cada Producer, na ordem da coluna
+   */
+  public static void tokenize(String value, Consumer<Producer> sink) {
+    int length = value.length();
+    int start = 0;
+    int i = 0;
+    while (i < length) {
+      char c = value.charAt(i);
+      if (c == ',' && value.startsWith(COMMA_SEPARATOR, i)) {
+        emit(value, start, i, sink);
+        i = skipLeadingAnd(value, i + COMMA_SEPARATOR.length());
+        start = i;
+      } else if (c == ' ' && value.startsWith(AND_SEPARATOR, i)) {
+        emit(value, start, i, sink);
+        i += AND_SEPARATOR.length();
+        start = i;
+      } else {
+        i++;
+      }
+    }
+    emit(value, start, length, sink);
+  }
+
+  /** Depois de ", ", consome espacos e um "and " opcional (virgula de Oxford) */
+  private static int skipLeadingAnd(String value, int from) {
+    int i = from;
+    while (i < value.length() && Character.isWhitespace(value.charAt(i))) {
+      i++;
+    }
+    return value.startsWith(OXFORD_AND, i) ? i + OXFORD_AND.length() : i;
+  }
+
+  /** Entrega o trecho [start, end) sem os espacos das pontas; trechos vazios sao ignorados */
+  private static void emit(String value, int start, int end, Consumer<Producer> sink) {
+    while (start < end && Character.isWhitespace(value.charAt(start))) {
+      start++;
+    }
+    while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+      end--;
+    }
+    if (start < end) {
+      sink.accept(Producer.of(value.substring(start, end)));
+    }
+  }
+}
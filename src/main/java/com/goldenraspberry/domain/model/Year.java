@@ -1,12 +1,20 @@
 package com.goldenraspberry.domain.model;
 
-import java.util.Objects;
-
-/** Year value object Representa um ano de lancamento de filme com validacao */
+/**
+ * Year value object Representa um ano de lancamento de filme com validacao. Ha apenas 201 anos
+ * validos: {@link #of(int)} devolve instancias pre-construidas em vez de criar uma por filme.
+ */
 public class Year {
 
   private static final int MIN_YEAR = 1900;
   private static final int MAX_YEAR = 2100;
+  private static final Year[] TABLE = new Year[MAX_YEAR - MIN_YEAR + 1];
+
+  static {
+    for (int i = 0; i < TABLE.length; i++) {
+      TABLE[i] = new Year(MIN_YEAR + i);
+    }
+  }
 
   private final int value;
 
@@ -15,6 +23,21 @@ public class Year {
     validateYear();
   }
 
+  /**
+   * Obtem a instancia canonica do ano
+   *
+   * @param value Ano entre 1900 e 2100
+   * @return Year compartilhado
+   * @throws IllegalArgumentException se o ano estiver fora do intervalo
+   */
+  public static Year of(int value) {
+    if (value < MIN_YEAR || value > MAX_YEAR) {
+      // Fora do intervalo: o construtor lanca a excecao de validacao
+      return new Year(value);
+    }
+    return TABLE[value - MIN_YEAR];
+  }
+
   private void validateYear() {
     if (value < MIN_YEAR || value > MAX_YEAR) {
       throw new IllegalArgumentException(
@@ -36,7 +59,7 @@ public class Year {
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Integer.hashCode(value);
   }
 
   @Override
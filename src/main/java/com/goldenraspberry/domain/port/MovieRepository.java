@@ -2,10 +2,13 @@ package com.goldenraspberry.domain.port;
 
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Year;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import java.util.function.Consumer;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 /** Repository interface de Movie */
 public interface MovieRepository {
@@ -18,12 +21,21 @@ public interface MovieRepository {
   List<Movie> findAll();
 
   /**
-   * Encontra todos os filmes com paginação
+   * Encontra filmes a partir de uma posicao de keyset (seek), sem OFFSET e sem contagem total
    *
-   * @param pageable Configuração de paginação
-   * @return Página de filmes
+   * @param position Posicao apos o ultimo filme lido (ScrollPosition.keyset() para o inicio)
+   * @param sort Ordenacao; o ID e usado como desempate
+   * @param limit Quantidade maxima de filmes
+   * @return Janela de filmes com a posicao de cada item
    */
-  Page<Movie> findAll(Pageable pageable);
+  Window<Movie> findAll(KeysetScrollPosition position, Sort sort, int limit);
+
+  /**
+   * Percorre todos os filmes ordenados por ID sem carrega-los de uma vez em memoria
+   *
+   * @param action Acao executada para cada filme, na ordem de leitura
+   */
+  void forEachMovie(Consumer<Movie> action);
 
   /**
    * Encontra filme por ID
@@ -33,6 +45,22 @@ public interface MovieRepository {
    */
   Optional<Movie> findById(Long id);
 
+  /**
+   * Encontra filmes por um conjunto de IDs em uma unica consulta
+   *
+   * @param ids IDs dos filmes
+   * @return Filmes encontrados (IDs inexistentes sao ignorados)
+   */
+  List<Movie> findAllById(Collection<Long> ids);
+
+  /**
+   * Encontra filmes cujo titulo esta no conjunto informado, em uma unica consulta
+   *
+   * @param titles Titulos dos filmes
+   * @return Filmes com algum dos titulos
+   */
+  List<Movie> findAllByTitleIn(Collection<String> titles);
+
   /**
    * Encontra todos os filmes vencedores
    *
@@ -79,6 +107,13 @@ public interface MovieRepository {
    */
   void deleteById(Long id);
 
+  /**
+   * Deleta filmes por um conjunto de IDs em um unico comando
+   *
+   * @param ids IDs dos filmes para deletar
+   */
+  void deleteAllById(Collection<Long> ids);
+
   /** Deleta todos os filmes */
   void deleteAll();
 
@@ -100,7 +135,17 @@ public interface MovieRepository {
   boolean existsByTitleAndYear(String title, Integer year);
 
   /**
-   * Conta total de filmes
+   * Verifica se existe outro filme, diferente do informado, com título e ano específicos
+   *
+   * @param title Título do filme
+   * @param year Ano do filme
+   * @param id ID do filme que deve ser desconsiderado
+   * @return true se existe, false caso contrário
+   */
+  boolean existsByTitleAndYearAndIdNot(String title, Integer year, Long id);
+
+  /**
+   * Conta total de filmes. O valor pode vir de cache enquanto a base nao for alterada.
    *
    * @return Número total de filmes
    */
@@ -1,16 +1,36 @@
 package com.goldenraspberry.domain.service;
 
-import com.goldenraspberry.common.annotation.DomainService;
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.common.util.Deadline;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Producer;
 import com.goldenraspberry.domain.model.ProducerInterval;
 import java.util.*;
 import java.util.stream.Collectors;
 
-/** Servico de dominio para calcular intervalos de Producer entre vitorias consecutivas */
-@DomainService
+/**
+ * Servico de dominio para calcular intervalos de Producer entre vitorias consecutivas. Os lacos
+ * verificam o {@link Deadline} da requisicao e abandonam o calculo quando ele expira.
+ *
+ * <p>Sem dependencia do Spring: cada aplicacao o registra como bean com a {@link ColumnScan}
+ * escolhida na sua configuracao.
+ */
 public class ProducerIntervalCalculator {
 
+  private static final Comparator<Movie> BY_YEAR =
+      Comparator.comparingInt(movie -> movie.getYear().getValue());
+
+  private final ColumnScan columnScan;
+
+  /**
+   * Calculo com a varredura configurada na aplicacao (escalar ou vetorizada)
+   *
+   * @param columnScan Varredura usada nas diferencas entre anos consecutivos
+   */
+  public ProducerIntervalCalculator(ColumnScan columnScan) {
+    this.columnScan = columnScan;
+  }
+
   /**
    * Calcula intervalos para todos os Producer com multiplas vitorias
    *
@@ -23,22 +43,50 @@ public class ProducerIntervalCalculator {
     }
 
     // Group winning movies by producer
-    Map<String, List<Movie>> winsByProducer = groupWinningMoviesByProducer(movies);
+    Map<Producer, List<Movie>> winsByProducer = groupWinningMoviesByProducer(movies);
+
+    // Anos das vitorias de cada Producer com multiplas vitorias, ordenados, em um unico array:
+    // as diferencas entre anos consecutivos saem de uma so varredura sobre ele
+    List<Map.Entry<Producer, List<Movie>>> repeatWinners = new ArrayList<>();
+    int totalWins = 0;
+    for (Map.Entry<Producer, List<Movie>> entry : winsByProducer.entrySet()) {
+      Deadline.checkCurrent();
+      List<Movie> producerWins = entry.getValue();
+      if (producerWins.size() > 1) {
+        producerWins.sort(BY_YEAR);
+        repeatWinners.add(entry);
+        totalWins += producerWins.size();
+      }
+    }
 
-    // Calculate intervals for each producer with multiple wins
-    Map<String, List<ProducerInterval>> intervals = new HashMap<>();
+    int[] winYears = new int[totalWins];
+    int position = 0;
+    for (Map.Entry<Producer, List<Movie>> entry : repeatWinners) {
+      for (Movie win : entry.getValue()) {
+        winYears[position++] = win.getYear().getValue();
+      }
+    }
+    int[] gaps = new int[Math.max(0, totalWins - 1)];
+    columnScan.deltas(winYears, totalWins, gaps);
 
-    for (Map.Entry<String, List<Movie>> entry : winsByProducer.entrySet()) {
-      String producerName = entry.getKey();
+    // Diferencas entre o ultimo ano de um Producer e o primeiro do seguinte sao ignoradas
+    Map<String, List<ProducerInterval>> intervals = new HashMap<>();
+    position = 0;
+    for (Map.Entry<Producer, List<Movie>> entry : repeatWinners) {
+      Deadline.checkCurrent();
+      Producer producer = entry.getKey();
       List<Movie> producerWins = entry.getValue();
-
-      if (producerWins.size() > 1) {
-        List<ProducerInterval> producerIntervals =
-            calculateIntervalsForProducer(producerName, producerWins);
-        if (!producerIntervals.isEmpty()) {
-          intervals.put(producerName, producerIntervals);
-        }
+      List<ProducerInterval> producerIntervals = new ArrayList<>(producerWins.size() - 1);
+      for (int i = 1; i < producerWins.size(); i++) {
+        producerIntervals.add(
+            new ProducerInterval(
+                producer,
+                gaps[position + i - 1],
+                producerWins.get(i - 1).getYear(),
+                producerWins.get(i).getYear()));
       }
+      intervals.put(producer.getName(), producerIntervals);
+      position += producerWins.size();
     }
 
     return intervals;
@@ -92,43 +140,22 @@ public class ProducerIntervalCalculator {
         "max", maxIntervals);
   }
 
-  private Map<String, List<Movie>> groupWinningMoviesByProducer(List<Movie> movies) {
-    Map<String, List<Movie>> winsByProducer = new HashMap<>();
+  /**
+   * Agrupa as vitorias pelo proprio Producer: com instancias compartilhadas ({@link Producer#of}),
+   * equals resolve por identidade e o hash vem do cache da String do nome
+   */
+  private Map<Producer, List<Movie>> groupWinningMoviesByProducer(List<Movie> movies) {
+    Map<Producer, List<Movie>> winsByProducer = new HashMap<>();
 
     for (Movie movie : movies) {
+      Deadline.checkCurrent();
       if (movie.isWinner()) {
         for (Producer producer : movie.getProducers()) {
-          winsByProducer.computeIfAbsent(producer.getName(), k -> new ArrayList<>()).add(movie);
+          winsByProducer.computeIfAbsent(producer, k -> new ArrayList<>()).add(movie);
         }
       }
     }
 
     return winsByProducer;
   }
-
-  private List<ProducerInterval> calculateIntervalsForProducer(
-      String producerName, List<Movie> wins) {
-    // Sort wins by year
-    List<Movie> sortedWins =
-        wins.stream()
-            .sorted(Comparator.comparing(movie -> movie.getYear().getValue()))
-            .collect(Collectors.toList());
-
-    List<ProducerInterval> intervals = new ArrayList<>();
-    Producer producer = new Producer(producerName);
-
-    for (int i = 1; i < sortedWins.size(); i++) {
-      Movie previousWin = sortedWins.get(i - 1);
-      Movie currentWin = sortedWins.get(i);
-
-      int interval = currentWin.getYear().getValue() - previousWin.getYear().getValue();
-
-      ProducerInterval producerInterval =
-          new ProducerInterval(producer, interval, previousWin.getYear(), currentWin.getYear());
-
-      intervals.add(producerInterval);
-    }
-
-    return intervals;
-  }
 }
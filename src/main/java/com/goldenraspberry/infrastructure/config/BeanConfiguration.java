@@ -1,5 +1,8 @@
 package com.goldenraspberry.infrastructure.config;
 
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -18,5 +21,12 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
     })
 public class BeanConfiguration {
 
-  // TODO
+  /**
+   * Servico de dominio do calculo de intervalos, com a varredura escolhida em {@link
+   * ColumnScanConfig}
+   */
+  @Bean
+  public ProducerIntervalCalculator producerIntervalCalculator(ColumnScan columnScan) {
+    return new ProducerIntervalCalculator(columnScan);
+  }
 }
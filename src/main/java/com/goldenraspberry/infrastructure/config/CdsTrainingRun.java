@@ -0,0 +1,77 @@
+package com.goldenraspberry.infrastructure.config;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Execucao de treino para gerar o arquivo de Class Data Sharing (perfil Maven "cds"). Quando
+ * app.cds.training-run=true, exercita os endpoints principais apos a carga do CSV e encerra a
+ * aplicacao, para que a JVM grave as classes carregadas no arquivo indicado em
+ * -XX:ArchiveClassesAtExit.
+ *
+ * <p>A propriedade e lida em tempo de execucao (e nao via @ConditionalOnProperty) porque o
+ * processamento AOT fixa as condicoes de beans no momento do build.
+ */
+@Component
+public class CdsTrainingRun {
+
+  private static final Logger logger = LoggerFactory.getLogger(CdsTrainingRun.class);
+
+  private static final List<String> TRAINING_PATHS =
+      List.of(
+          "/api/v1/producers/intervals",
+          "/api/v1/movies",
+          "/api/v1/movies/winners",
+          "/api/v1/movies?page=0&size=10",
+          "/api/v1/movies/1",
+          "/api/data/stats");
+
+  private final ConfigurableApplicationContext context;
+  private final Environment environment;
+  private final boolean trainingRun;
+
+  @Autowired
+  public CdsTrainingRun(
+      ConfigurableApplicationContext context,
+      Environment environment,
+      @Value("${app.cds.training-run:false}") boolean trainingRun) {
+    this.context = context;
+    this.environment = environment;
+    this.trainingRun = trainingRun;
+  }
+
+  /** Exercita a API e encerra a aplicacao quando em execucao de treino */
+  @EventListener(ApplicationReadyEvent.class)
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  public void onApplicationReady() {
+    if (!trainingRun) {
+      return;
+    }
+
+    String port = environment.getProperty("local.server.port", "8080");
+    RestClient client = RestClient.create("http://localhost:" + port);
+
+    for (String path : TRAINING_PATHS) {
+      try {
+        client.get().uri(path).retrieve().toBodilessEntity();
+      } catch (Exception e) {
+        logger.warn("Falha ao exercitar {} na execucao de treino: {}", path, e.getMessage());
+      }
+    }
+
+    logger.info("Execucao de treino do CDS concluida, encerrando aplicacao");
+    System.exit(SpringApplication.exit(context));
+  }
+}
@@ -0,0 +1,39 @@
+package com.goldenraspberry.infrastructure.config;
+
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.infrastructure.persistence.columnar.VectorColumnScan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Escolhe a implementacao de {@link ColumnScan} usada pela copia colunar e pelo calculo de
+ * intervalos. A versao vetorizada e opcional ({@code app.scan.vector.enabled}) e depende de um
+ * modulo incubado do JDK; sem ele, a aplicacao segue com a escalar.
+ */
+@Configuration
+public class ColumnScanConfig {
+
+  private static final Logger logger = LoggerFactory.getLogger(ColumnScanConfig.class);
+
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+  @Bean
+  public ColumnScan columnScan(@Value("${app.scan.vector.enabled:false}") boolean vectorEnabled) {
+    if (!vectorEnabled) {
+      return ColumnScan.scalar();
+    }
+    // O modulo so e resolvido com --add-modules; sem ele VectorColumnScan nem pode ser carregada
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+      logger.warn(
+          "app.scan.vector.enabled=true, mas a JVM nao foi iniciada com --add-modules {}. "
+              + "Usando varredura escalar",
+          VECTOR_MODULE);
+      return ColumnScan.scalar();
+    }
+    logger.info("Varreduras de colunas com a Vector API ({})", VECTOR_MODULE);
+    return new VectorColumnScan();
+  }
+}
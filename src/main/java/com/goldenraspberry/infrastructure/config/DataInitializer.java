@@ -2,6 +2,9 @@ package com.goldenraspberry.infrastructure.config;
 
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.infrastructure.csv.MovieCsvLoader;
+import com.goldenraspberry.infrastructure.monitoring.StartupPhaseRecorder;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import com.goldenraspberry.infrastructure.persistence.MovieDuplicateFilter;
 import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
 import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
 import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
@@ -11,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,27 +29,42 @@ public class DataInitializer {
   private final MovieCsvLoader csvLoader;
   private final MovieEntityMapper entityMapper;
   private final MovieJpaRepository movieRepository;
+  private final StartupPhaseRecorder phaseRecorder;
+  private final MovieDatasetVersion datasetVersion;
+  private final MovieDuplicateFilter duplicateFilter;
 
   @Autowired
   public DataInitializer(
       MovieCsvLoader csvLoader,
       MovieEntityMapper entityMapper,
-      MovieJpaRepository movieRepository) {
+      MovieJpaRepository movieRepository,
+      StartupPhaseRecorder phaseRecorder,
+      MovieDatasetVersion datasetVersion,
+      MovieDuplicateFilter duplicateFilter) {
     this.csvLoader = csvLoader;
     this.entityMapper = entityMapper;
     this.movieRepository = movieRepository;
+    this.phaseRecorder = phaseRecorder;
+    this.datasetVersion = datasetVersion;
+    this.duplicateFilter = duplicateFilter;
   }
 
-  /** Inicializa os dados carregando filmes do CSV */
+  /**
+   * Inicializa os dados carregando filmes do CSV. Executa antes dos demais ouvintes de
+   * ApplicationReadyEvent, que podem depender dos dados carregados.
+   */
   @EventListener(ApplicationReadyEvent.class)
+  @Order(0)
   @Transactional
   public void initializeData() {
     logger.info("Iniciando inicializacao de dados...");
+    // O filtro de duplicidade e construido com o que estiver na base ao final da carga
+    duplicateFilter.rebuildAfterCompletion();
 
-    try {
+    try (StartupPhaseRecorder.Phase total = phaseRecorder.start("data.total")) {
       // Verifica se ja existem dados no banco (agora que as tabelas foram criadas pelo Hibernate)
       long existingMoviesCount;
-      try {
+      try (StartupPhaseRecorder.Phase phase = phaseRecorder.start("data.count-existing")) {
         existingMoviesCount = movieRepository.count();
       } catch (Exception e) {
         // Se a tabela ainda nao existe, assume que nao ha dados
@@ -56,30 +75,49 @@ public class DataInitializer {
       if (existingMoviesCount > 0) {
         logger.info(
             "Dados ja existem no banco ({} filmes). Pulando inicializacao.", existingMoviesCount);
+        phaseRecorder.markDataReady();
         return;
       }
 
       // Carrega filmes do arquivo CSV configurado
       logger.info(
           "Carregando filmes do arquivo CSV configurado: {}", csvLoader.getClass().getSimpleName());
-      List<Movie> movies = csvLoader.loadMovies();
+      List<Movie> movies;
+      try (StartupPhaseRecorder.Phase phase = phaseRecorder.start("data.csv-parse")) {
+        movies = csvLoader.loadMovies();
+        phase.tag("movies", movies.size());
+      }
 
       if (movies.isEmpty()) {
         logger.warn("Nenhum filme foi carregado do CSV");
+        phaseRecorder.markDataReady();
         return;
       }
 
       // Converte para entidades JPA
       logger.info("Convertendo {} filmes para entidades JPA...", movies.size());
-      List<MovieJpaEntity> entities = entityMapper.toEntityList(movies);
+      List<MovieJpaEntity> entities;
+      try (StartupPhaseRecorder.Phase phase = phaseRecorder.start("data.entity-mapping")) {
+        entities = entityMapper.toEntityList(movies);
+      }
 
       // Salva no banco de dados
       logger.info("Salvando filmes no banco de dados...");
-      List<MovieJpaEntity> savedEntities = movieRepository.saveAll(entities);
+      try (StartupPhaseRecorder.Phase phase = phaseRecorder.start("data.save-all")) {
+        movieRepository.saveAll(entities);
+        movieRepository.flush();
+        phase.tag("entities", entities.size());
+      }
+      datasetVersion.markChanged();
 
       // Log de estatisticas
-      long totalMovies = movieRepository.count();
-      long winnerMovies = movieRepository.countByWinnerTrue();
+      long totalMovies;
+      long winnerMovies;
+      try (StartupPhaseRecorder.Phase phase = phaseRecorder.start("data.statistics")) {
+        totalMovies = movieRepository.count();
+        winnerMovies = movieRepository.countByWinnerTrue();
+      }
+      phaseRecorder.markDataReady();
 
       logger.info("Inicializacao de dados concluida com sucesso!");
       logger.info("Total de filmes salvos: {}", totalMovies);
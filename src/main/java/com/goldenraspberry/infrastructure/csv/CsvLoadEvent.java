@@ -0,0 +1,35 @@
+package com.goldenraspberry.infrastructure.csv;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Evento do JDK Flight Recorder para a leitura de um CSV de filmes (arquivo, upload ou carga) */
+@Name("goldenraspberry.CsvLoad")
+@Label("CSV Load")
+@Category({"Golden Raspberry", "Ingestion"})
+@Description("Leitura e conversao de um arquivo CSV de filmes")
+@StackTrace(false)
+class CsvLoadEvent extends Event {
+
+  @Label("Source")
+  String source;
+
+  @Label("Rows")
+  @Description("Registros lidos, sem o cabecalho")
+  int rows;
+
+  @Label("Movies")
+  int movies;
+
+  @Label("Bytes")
+  @DataAmount
+  long bytes;
+
+  @Label("Succeeded")
+  boolean succeeded;
+}
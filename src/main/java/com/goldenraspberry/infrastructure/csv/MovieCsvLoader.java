@@ -1,43 +1,51 @@
 package com.goldenraspberry.infrastructure.csv;
 
+import com.goldenraspberry.common.util.Deadline;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
 import com.goldenraspberry.domain.model.Year;
 import com.opencsv.CSVParserBuilder;
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-/** Movie CSV Loader Carregador de filmes a partir de arquivo CSV */
+/**
+ * Movie CSV Loader Carregador de filmes a partir de arquivo CSV. O processamento das linhas e
+ * abandonado quando o {@link Deadline} da requisicao expira. Cada leitura gera um {@link
+ * CsvLoadEvent} no JDK Flight Recorder (fonte, registros, filmes, bytes e duracao).
+ */
 @Component
 public class MovieCsvLoader {
 
   private static final Logger logger = LoggerFactory.getLogger(MovieCsvLoader.class);
 
   private static final String DEFAULT_CSV_FILE_PATH = "movielist.csv";
-  private static final String PRODUCER_SEPARATOR = ", ";
-  private static final String PRODUCER_AND_SEPARATOR = " and ";
   private static final String YES_VALUE = "yes";
 
   @Value("${app.csv.file-path:movielist.csv}")
   private String csvFilePath;
 
+  // Caminhos sem prefixo sao resolvidos no classpath; "file:" permite arquivos externos
+  private final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
   // Indices das colunas no CSV
   private static final int YEAR_INDEX = 0;
   private static final int TITLE_INDEX = 1;
@@ -82,10 +90,9 @@ public class MovieCsvLoader {
         String filename = resource.getFilename();
         logger.info("Carregando arquivo CSV: {}", filename);
 
-        try (InputStreamReader reader =
-            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+        try (InputStream input = resource.getInputStream()) {
 
-          List<Movie> moviesFromFile = loadMoviesFromReader(reader, "arquivo " + filename);
+          List<Movie> moviesFromFile = loadMoviesFromStream(input, "arquivo " + filename);
           allMovies.addAll(moviesFromFile);
 
           logger.info("Carregados {} filmes do arquivo {}", moviesFromFile.size(), filename);
@@ -113,7 +120,7 @@ public class MovieCsvLoader {
   /**
    * Carrega filmes de um arquivo CSV especifico
    *
-   * @param filePath Caminho do arquivo CSV
+   * @param filePath Caminho do arquivo CSV (classpath por padrao, ou "file:" para o disco)
    * @return Lista de filmes carregados
    * @throws MovieCsvLoadException Se houver erro no carregamento
    */
@@ -121,15 +128,14 @@ public class MovieCsvLoader {
     logger.info("Iniciando carregamento de filmes do arquivo CSV: {}", filePath);
 
     try {
-      ClassPathResource resource = new ClassPathResource(filePath);
+      Resource resource = resourceLoader.getResource(filePath);
 
       if (!resource.exists()) {
         throw new MovieCsvLoadException("Arquivo CSV nao encontrado: " + filePath);
       }
 
-      try (InputStreamReader reader =
-          new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
-        return loadMoviesFromReader(reader, "arquivo " + filePath);
+      try (InputStream input = resource.getInputStream()) {
+        return loadMoviesFromStream(input, "arquivo " + filePath);
       }
 
     } catch (IOException e) {
@@ -155,9 +161,8 @@ public class MovieCsvLoader {
         file.getOriginalFilename());
 
     try {
-      try (InputStreamReader reader =
-          new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
-        return loadMoviesFromReader(reader, "upload " + file.getOriginalFilename());
+      try (InputStream input = file.getInputStream()) {
+        return loadMoviesFromStream(input, "upload " + file.getOriginalFilename());
       }
 
     } catch (IOException e) {
@@ -166,16 +171,47 @@ public class MovieCsvLoader {
     }
   }
 
+  /**
+   * Carrega filmes de um stream em UTF-8, registrando a leitura no JDK Flight Recorder
+   *
+   * @param input Stream com o conteudo do CSV
+   * @param source Descricao da fonte para logs e para o evento
+   * @return Lista de filmes carregados
+   * @throws MovieCsvLoadException Se houver erro no carregamento
+   */
+  private List<Movie> loadMoviesFromStream(InputStream input, String source)
+      throws MovieCsvLoadException {
+    CsvLoadEvent event = new CsvLoadEvent();
+    event.begin();
+    CountingInputStream counted = new CountingInputStream(input);
+    try {
+      List<Movie> movies =
+          loadMoviesFromReader(
+              new InputStreamReader(counted, StandardCharsets.UTF_8), source, event);
+      event.movies = movies.size();
+      event.succeeded = true;
+      return movies;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.source = source;
+        event.bytes = counted.count;
+        event.commit();
+      }
+    }
+  }
+
   /**
    * Metodo generico para carregar filmes de um Reader
    *
    * @param reader Reader para ler o CSV
    * @param source Descricao da fonte para logs
+   * @param event Evento que recebe o numero de registros lidos
    * @return Lista de filmes carregados
    * @throws MovieCsvLoadException Se houver erro no carregamento
    */
-  private List<Movie> loadMoviesFromReader(InputStreamReader reader, String source)
-      throws MovieCsvLoadException {
+  private List<Movie> loadMoviesFromReader(
+      InputStreamReader reader, String source, CsvLoadEvent event) throws MovieCsvLoadException {
     try {
       List<Movie> movies = new ArrayList<>();
 
@@ -194,6 +230,7 @@ public class MovieCsvLoader {
         // Pula o cabecalho se existir
         boolean hasHeader = isHeaderRow(records.get(0));
         int startIndex = hasHeader ? 1 : 0;
+        event.rows = records.size() - startIndex;
 
         logger.info(
             "Processando {} registros de {} (cabecalho: {})",
@@ -203,6 +240,7 @@ public class MovieCsvLoader {
 
         for (int i = startIndex; i < records.size(); i++) {
           String[] record = records.get(i);
+          Deadline.checkCurrent();
 
           try {
             Movie movie = parseMovieRecord(record, i + 1);
@@ -287,7 +325,7 @@ public class MovieCsvLoader {
     String winnerStr = record[WINNER_INDEX].trim().toLowerCase();
     boolean winner = YES_VALUE.equals(winnerStr);
 
-    return new Movie(null, new Year(yearValue), title, studios, producers, winner);
+    return new Movie(null, Year.of(yearValue), title, studios, producers, winner);
   }
 
   /**
@@ -297,14 +335,7 @@ public class MovieCsvLoader {
    * @return Lista de produtores
    */
   private List<Producer> parseProducers(String producersStr) {
-    // Primeiro substitui ' and ' por ', ' para padronizar o separador
-    String normalizedProducers = producersStr.replace(PRODUCER_AND_SEPARATOR, PRODUCER_SEPARATOR);
-
-    return Arrays.stream(normalizedProducers.split(PRODUCER_SEPARATOR))
-        .map(String::trim)
-        .filter(name -> !name.isEmpty())
-        .map(Producer::new)
-        .collect(Collectors.toList());
+    return ProducerTokenizer.parse(producersStr);
   }
 
   /**
@@ -322,6 +353,41 @@ public class MovieCsvLoader {
     }
   }
 
+  /** Conta os bytes lidos do stream original (antes da decodificacao) */
+  private static final class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    private CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        count++;
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count += n;
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+  }
+
   /** Excecao para erros de carregamento de CSV */
   public static class MovieCsvLoadException extends Exception {
     public MovieCsvLoadException(String message) {
@@ -0,0 +1,333 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import com.goldenraspberry.infrastructure.persistence.MovieDuplicateFilter;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumnStore;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumns;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository.TextColumns;
+import jakarta.persistence.EntityManagerFactory;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Estima a memoria retida pela base carregada: linhas do banco em memoria, strings de produtores e
+ * estudios, indices, filtro de duplicidade e regioes do cache de segundo nivel, alem do texto da
+ * copia colunar fora do heap.
+ *
+ * <p>O levantamento do conteudo percorre a tabela em lotes, sem materializa-la, e so e refeito
+ * quando a {@link MovieDatasetVersion} muda; contagens e estatisticas dos caches sao lidas a cada
+ * chamada, sem custo relevante. Os tamanhos sao estimativas para JVM 64 bits com compressed oops,
+ * uteis para dimensionar o heap, nao medicoes exatas.
+ */
+@Component
+public class DatasetFootprint {
+
+  private static final Logger logger = LoggerFactory.getLogger(DatasetFootprint.class);
+
+  // String (24 bytes) mais o cabecalho do byte[] (16 bytes)
+  private static final long STRING_OVERHEAD = 40;
+  // Linha do H2: Row, Value[] e os valores das 6 colunas, sem o conteudo das strings
+  private static final long ROW_OVERHEAD = 160;
+  // Chave de busca e referencias em um no da B-tree
+  private static final long INDEX_ENTRY_BYTES = 48;
+  // No do Caffeine, chave do Hibernate e estado desmontado (strings compartilhadas com as linhas)
+  private static final long CACHE_ENTRY_BYTES = 200;
+  private static final String TABLE_NAME = "movies";
+
+  private final MovieJpaRepository jpaRepository;
+  private final MovieDatasetVersion datasetVersion;
+  private final MovieDuplicateFilter duplicateFilter;
+  private final MovieColumnStore columnStore;
+  private final EntityManagerFactory entityManagerFactory;
+  private final DataSource dataSource;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private volatile Content content;
+
+  @Autowired
+  public DatasetFootprint(
+      MovieJpaRepository jpaRepository,
+      MovieDatasetVersion datasetVersion,
+      MovieDuplicateFilter duplicateFilter,
+      MovieColumnStore columnStore,
+      EntityManagerFactory entityManagerFactory,
+      DataSource dataSource,
+      PlatformTransactionManager transactionManager) {
+    this.jpaRepository = jpaRepository;
+    this.datasetVersion = datasetVersion;
+    this.duplicateFilter = duplicateFilter;
+    this.columnStore = columnStore;
+    this.entityManagerFactory = entityManagerFactory;
+    this.dataSource = dataSource;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Retorna a estimativa atual, refazendo o levantamento do conteudo se a base mudou
+   *
+   * @return Estruturas com contagens e tamanhos estimados em bytes
+   */
+  public Map<String, Object> snapshot() {
+    Content current = content();
+
+    Map<String, Object> movies = new LinkedHashMap<>();
+    movies.put("entries", current.movies());
+    movies.put("estimatedBytes", current.rowBytes());
+
+    Map<String, Object> producers = new LinkedHashMap<>();
+    producers.put("distinct", current.distinctProducers());
+    producers.put("references", current.producerReferences());
+    producers.put("estimatedBytes", current.producerBytes());
+    // Instancias compartilhadas em memoria (pool de Producer.of), lido a cada chamada
+    producers.put("interned", Producer.internedCount());
+
+    Map<String, Object> studios = new LinkedHashMap<>();
+    studios.put("distinct", current.distinctStudios());
+    studios.put("estimatedBytes", current.studioBytes());
+
+    Map<String, Object> indexes = new LinkedHashMap<>();
+    for (String index : current.indexes()) {
+      indexes.put(index, structure(current.movies(), current.movies() * INDEX_ENTRY_BYTES));
+    }
+    long filterBytes = duplicateFilter.bitSize() / 8;
+    Map<String, Object> filter = structure(current.movies(), filterBytes);
+    filter.put("bits", duplicateFilter.bitSize());
+    filter.put("hashFunctions", duplicateFilter.hashCount());
+    indexes.put("duplicateFilter", filter);
+
+    Map<String, Object> caches = cacheRegions();
+
+    // Copia ja construida, sem forcar a reconstrucao; lida a cada chamada
+    Map<String, Object> columnar = new LinkedHashMap<>();
+    columnar.put("enabled", columnStore.isEnabled());
+    long offHeapBytes = 0;
+    if (columnStore.loadedColumns().orElse(null) instanceof MovieColumns columns) {
+      offHeapBytes = columns.offHeapReservedBytes();
+      columnar.put("datasetVersion", columns.version());
+      columnar.put("entries", (long) columns.size());
+      columnar.put("offHeapUsedBytes", columns.offHeapUsedBytes());
+      columnar.put("offHeapReservedBytes", offHeapBytes);
+    }
+
+    long total =
+        current.rowBytes()
+            + current.movies() * INDEX_ENTRY_BYTES * current.indexes().size()
+            + filterBytes
+            + caches.values().stream()
+                .mapToLong(region -> (Long) ((Map<?, ?>) region).get("estimatedBytes"))
+                .sum();
+
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("datasetVersion", current.version());
+    snapshot.put("computedAt", current.computedAt());
+    snapshot.put("estimatedTotalBytes", total);
+    snapshot.put("offHeapBytes", offHeapBytes);
+    snapshot.put("movies", movies);
+    snapshot.put("producers", producers);
+    snapshot.put("studios", studios);
+    snapshot.put("indexes", indexes);
+    snapshot.put("caches", caches);
+    snapshot.put("columnar", columnar);
+    return snapshot;
+  }
+
+  private Content content() {
+    long version = datasetVersion.current();
+    Content cached = content;
+    if (cached != null && cached.version() == version) {
+      return cached;
+    }
+
+    // Lock em vez de synchronized: o levantamento le o banco e nao deve fixar a thread portadora
+    refreshLock.lock();
+    try {
+      cached = content;
+      if (cached != null && cached.version() == version) {
+        return cached;
+      }
+      Content fresh = scan(version);
+      content = fresh;
+      return fresh;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  private Content scan(long version) {
+    Tally tally = readOnlyTransaction.execute(status -> tally());
+    return new Content(
+        version,
+        Instant.now(),
+        tally.movies,
+        tally.rowBytes,
+        tally.producers.size(),
+        tally.producerReferences,
+        tally.producers.stream().mapToLong(DatasetFootprint::stringBytes).sum(),
+        tally.studios.size(),
+        tally.studios.stream().mapToLong(DatasetFootprint::stringBytes).sum(),
+        indexNames());
+  }
+
+  /** Percorre as colunas de texto em lotes; apenas os valores distintos ficam em memoria */
+  private Tally tally() {
+    Tally tally = new Tally();
+    try (Stream<TextColumns> rows = jpaRepository.streamAllTextColumnsBy()) {
+      rows.forEach(
+          row -> {
+            tally.movies++;
+            tally.rowBytes +=
+                ROW_OVERHEAD
+                    + stringBytes(row.title())
+                    + stringBytes(row.studios())
+                    + stringBytes(row.producers());
+            tally.studios.add(row.studios());
+            // Mesma separacao das leituras: os nomes ja estao no pool de Producer
+            List<String> names = ProducerTokenizer.parseNames(row.producers());
+            tally.producers.addAll(names);
+            tally.producerReferences += names.size();
+          });
+    }
+    return tally;
+  }
+
+  private List<String> indexNames() {
+    Set<String> names = new TreeSet<>();
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+      String table = metaData.storesUpperCaseIdentifiers() ? TABLE_NAME.toUpperCase() : TABLE_NAME;
+      try (ResultSet indexInfo = metaData.getIndexInfo(null, null, table, false, true)) {
+        while (indexInfo.next()) {
+          String name = indexInfo.getString("INDEX_NAME");
+          if (name != null) {
+            names.add(name.toLowerCase());
+          }
+        }
+      }
+    } catch (SQLException e) {
+      logger.warn("Nao foi possivel listar os indices de {}: {}", TABLE_NAME, e.getMessage());
+    }
+    return List.copyOf(names);
+  }
+
+  private Map<String, Object> cacheRegions() {
+    Map<String, Object> regions = new LinkedHashMap<>();
+    if (!(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory()
+        instanceof JCacheRegionFactory regionFactory)) {
+      return regions;
+    }
+
+    CacheManager cacheManager = regionFactory.getCacheManager();
+    for (String name : cacheManager.getCacheNames()) {
+      Cache<Object, Object> cache = cacheManager.getCache(name);
+      long entries = entries(cache);
+      Map<String, Object> region = structure(entries, Math.max(0, entries) * CACHE_ENTRY_BYTES);
+      region.putAll(statistics(cacheManager, name));
+      regions.put(name, region);
+    }
+    return regions;
+  }
+
+  private static long entries(Cache<Object, Object> cache) {
+    try {
+      return cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class).estimatedSize();
+    } catch (IllegalArgumentException e) {
+      return -1;
+    }
+  }
+
+  /** Estatisticas JSR-107 publicadas via JMX quando monitoring.statistics esta ativo */
+  private static Map<String, Object> statistics(CacheManager cacheManager, String cacheName) {
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name =
+          new ObjectName(
+              "javax.cache:type=CacheStatistics,CacheManager="
+                  + sanitize(cacheManager.getURI().toString())
+                  + ",Cache="
+                  + sanitize(cacheName));
+      if (server.isRegistered(name)) {
+        statistics.put("hits", server.getAttribute(name, "CacheHits"));
+        statistics.put("misses", server.getAttribute(name, "CacheMisses"));
+        statistics.put("evictions", server.getAttribute(name, "CacheEvictions"));
+      }
+    } catch (JMException e) {
+      logger.debug("Estatisticas do cache {} indisponiveis: {}", cacheName, e.getMessage());
+    }
+    return statistics;
+  }
+
+  private static String sanitize(String name) {
+    return name == null ? "" : name.replaceAll("[,:=\\n]", ".");
+  }
+
+  private static Map<String, Object> structure(long entries, long estimatedBytes) {
+    Map<String, Object> structure = new LinkedHashMap<>();
+    structure.put("entries", entries);
+    structure.put("estimatedBytes", estimatedBytes);
+    return structure;
+  }
+
+  /** Tamanho estimado de uma String compacta (Latin-1) ou UTF-16 */
+  private static long stringBytes(String value) {
+    if (value == null) {
+      return 0;
+    }
+    boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+    long data = latin1 ? value.length() : 2L * value.length();
+    return STRING_OVERHEAD + ((data + 7) & ~7L);
+  }
+
+  /** Acumulado durante a leitura da tabela */
+  private static final class Tally {
+    private final Set<String> producers = new HashSet<>();
+    private final Set<String> studios = new HashSet<>();
+    private long movies;
+    private long rowBytes;
+    private long producerReferences;
+  }
+
+  /** Levantamento do conteudo associado a versao da base em que foi feito */
+  private record Content(
+      long version,
+      Instant computedAt,
+      long movies,
+      long rowBytes,
+      long distinctProducers,
+      long producerReferences,
+      long producerBytes,
+      long distinctStudios,
+      long studioBytes,
+      List<String> indexes) {}
+}
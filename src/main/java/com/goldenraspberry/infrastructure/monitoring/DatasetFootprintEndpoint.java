@@ -0,0 +1,28 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint do Actuator com a memoria estimada da base carregada (linhas, strings, indices e
+ * caches), para dimensionar o heap. O levantamento so e refeito quando a base muda.
+ */
+@Component
+@Endpoint(id = "dataset")
+public class DatasetFootprintEndpoint {
+
+  private final DatasetFootprint datasetFootprint;
+
+  @Autowired
+  public DatasetFootprintEndpoint(DatasetFootprint datasetFootprint) {
+    this.datasetFootprint = datasetFootprint;
+  }
+
+  @ReadOperation
+  public Map<String, Object> footprint() {
+    return datasetFootprint.snapshot();
+  }
+}
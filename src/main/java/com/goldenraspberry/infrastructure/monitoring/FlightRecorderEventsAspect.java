@@ -0,0 +1,113 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import com.goldenraspberry.application.port.MovieReadModel;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.port.MovieRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emite eventos do JDK Flight Recorder para o calculo de intervalos e para as buscas do repositorio
+ * e do modelo de leitura (as listagens). Sem gravacao ativa o custo e uma verificacao de {@code
+ * isEnabled()}; os campos do evento so sao calculados quando ele sera gravado.
+ *
+ * <p>Fica na infraestrutura, como o {@link LayerTimingAspect}, para manter dominio e aplicacao sem
+ * instrumentacao.
+ */
+@Aspect
+@Component
+public class FlightRecorderEventsAspect {
+
+  @Around(
+      "execution(*"
+          + " com.goldenraspberry.domain.service.ProducerIntervalCalculator.findMinMaxIntervals(..))")
+  public Object recordIntervalComputation(ProceedingJoinPoint joinPoint) throws Throwable {
+    IntervalComputationEvent event = new IntervalComputationEvent();
+    if (!event.isEnabled()) {
+      return joinPoint.proceed();
+    }
+
+    event.begin();
+    Object result = joinPoint.proceed();
+    event.end();
+    if (event.shouldCommit()) {
+      describeInput(event, joinPoint.getArgs()[0]);
+      if (result instanceof Map<?, ?> intervals) {
+        event.minIntervals = sizeOf(intervals.get("min"));
+        event.maxIntervals = sizeOf(intervals.get("max"));
+      }
+      event.commit();
+    }
+    return result;
+  }
+
+  @Around(
+      "execution(* com.goldenraspberry.domain.port.MovieRepository.find*(..))"
+          + " || execution(* com.goldenraspberry.application.port.MovieReadModel.find*(..))")
+  public Object recordRepositoryQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+    RepositoryQueryEvent event = new RepositoryQueryEvent();
+    if (!event.isEnabled()) {
+      return joinPoint.proceed();
+    }
+
+    event.begin();
+    Object result = joinPoint.proceed();
+    event.end();
+    if (event.shouldCommit()) {
+      event.port =
+          joinPoint.getTarget() instanceof MovieReadModel
+              ? MovieReadModel.class.getSimpleName()
+              : MovieRepository.class.getSimpleName();
+      event.operation = joinPoint.getSignature().getName();
+      event.results = sizeOf(result);
+      event.commit();
+    }
+    return result;
+  }
+
+  private static void describeInput(IntervalComputationEvent event, Object input) {
+    if (!(input instanceof List<?> movies)) {
+      return;
+    }
+    Set<String> producers = new HashSet<>();
+    int winners = 0;
+    for (Object element : movies) {
+      if (element instanceof Movie movie && movie.isWinner()) {
+        winners++;
+        for (Producer producer : movie.getProducers()) {
+          producers.add(producer.getName());
+        }
+      }
+    }
+    event.movies = movies.size();
+    event.winners = winners;
+    event.producers = producers.size();
+  }
+
+  private static int sizeOf(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Optional<?> optional) {
+      return optional.isPresent() ? 1 : 0;
+    }
+    if (result instanceof Slice<?> slice) {
+      return slice.getNumberOfElements();
+    }
+    if (result instanceof Window<?> window) {
+      return window.size();
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,195 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint do Actuator que controla uma gravacao do JDK Flight Recorder, sem agentes externos:
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/jfr} - estado da gravacao atual
+ *   <li>{@code POST /actuator/jfr} - inicia uma gravacao (corpo opcional {@code {"durationSeconds":
+ *       120}}), que para sozinha ao fim da duracao
+ *   <li>{@code DELETE /actuator/jfr} - para a gravacao
+ *   <li>{@code GET /actuator/jfr/{file}} - baixa o arquivo .jfr da gravacao parada
+ * </ul>
+ *
+ * <p>Alem dos eventos da JVM (configuracao {@code app.jfr.settings}), a gravacao inclui os eventos
+ * goldenraspberry.* da aplicacao. Apenas uma gravacao existe por vez; iniciar outra descarta o
+ * arquivo anterior, assim como o encerramento da aplicacao.
+ *
+ * <p>Uma gravacao expoe variaveis de ambiente, propriedades do sistema e a linha de comando da JVM:
+ * o endpoint nao e exposto por padrao e deve ser incluido em {@code
+ * management.endpoints.web.exposure.include} apenas com a porta de gerenciamento protegida.
+ */
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint {
+
+  private static final Logger logger = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+  private static final int STATUS_CONFLICT = 409;
+
+  private final String settings;
+  private final long defaultDurationSeconds;
+  private final long maxDurationSeconds;
+
+  private Recording recording;
+  private Path file;
+
+  @Autowired
+  public FlightRecordingEndpoint(
+      @Value("${app.jfr.settings:profile}") String settings,
+      @Value("${app.jfr.default-duration-seconds:300}") long defaultDurationSeconds,
+      @Value("${app.jfr.max-duration-seconds:1800}") long maxDurationSeconds) {
+    this.settings = settings;
+    this.defaultDurationSeconds = defaultDurationSeconds;
+    this.maxDurationSeconds = maxDurationSeconds;
+  }
+
+  @ReadOperation
+  public synchronized Map<String, Object> status() {
+    Map<String, Object> status = new LinkedHashMap<>();
+    if (recording == null) {
+      status.put("state", "NONE");
+      return status;
+    }
+    status.put("state", recording.getState().name());
+    status.put("settings", settings);
+    status.put("startTime", recording.getStartTime());
+    status.put("stopTime", recording.getStopTime());
+    status.put("duration", recording.getDuration());
+    if (isFinished()) {
+      status.put("file", file.getFileName().toString());
+      status.put("sizeBytes", sizeOf(file));
+    }
+    return status;
+  }
+
+  /**
+   * Inicia uma gravacao
+   *
+   * @param durationSeconds Duracao em segundos (padrao app.jfr.default-duration-seconds, limitada a
+   *     app.jfr.max-duration-seconds)
+   * @return Estado da gravacao, ou 409 se ja houver uma gravacao em andamento
+   */
+  @WriteOperation
+  public synchronized WebEndpointResponse<Map<String, Object>> start(
+      @Nullable Long durationSeconds) {
+    if (recording != null && recording.getState() == RecordingState.RUNNING) {
+      return new WebEndpointResponse<>(status(), STATUS_CONFLICT);
+    }
+    discard();
+
+    long seconds =
+        Math.clamp(
+            durationSeconds != null ? durationSeconds : defaultDurationSeconds,
+            1,
+            maxDurationSeconds);
+    try {
+      Path destination = Files.createTempFile("goldenraspberry-", ".jfr");
+      Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+      newRecording.setName("goldenraspberry");
+      newRecording.setToDisk(true);
+      newRecording.setDuration(Duration.ofSeconds(seconds));
+      newRecording.setDestination(destination);
+      newRecording.start();
+      recording = newRecording;
+      file = destination;
+    } catch (IOException | ParseException e) {
+      throw new IllegalStateException("Nao foi possivel iniciar a gravacao: " + e.getMessage(), e);
+    }
+    logger.info("Gravacao JFR iniciada ({}, {}s)", settings, seconds);
+    return new WebEndpointResponse<>(status());
+  }
+
+  /**
+   * Para a gravacao em andamento; o arquivo fica disponivel para download
+   *
+   * @return Estado da gravacao, ou 404 se nao houver gravacao
+   */
+  @DeleteOperation
+  public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+    if (recording == null) {
+      return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    if (recording.getState() == RecordingState.RUNNING) {
+      recording.stop();
+      logger.info("Gravacao JFR parada: {}", file);
+    }
+    return new WebEndpointResponse<>(status());
+  }
+
+  /**
+   * Baixa o arquivo da gravacao parada
+   *
+   * @param fileName Nome do arquivo, como informado pelo estado da gravacao
+   * @return Arquivo .jfr, 404 se o nome nao corresponder ou 409 se a gravacao ainda estiver ativa
+   */
+  @ReadOperation(produces = "application/octet-stream")
+  public synchronized WebEndpointResponse<Resource> download(@Selector String fileName) {
+    if (recording == null || !file.getFileName().toString().equals(fileName)) {
+      return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+    }
+    if (!isFinished()) {
+      return new WebEndpointResponse<>(STATUS_CONFLICT);
+    }
+    return new WebEndpointResponse<>(new FileSystemResource(file));
+  }
+
+  /** Fecha a gravacao em andamento e remove o arquivo temporario */
+  @PreDestroy
+  public synchronized void close() {
+    discard();
+  }
+
+  /** Com destino definido, o JFR grava o arquivo e fecha a gravacao ao parar */
+  private boolean isFinished() {
+    RecordingState state = recording.getState();
+    return state == RecordingState.STOPPED || state == RecordingState.CLOSED;
+  }
+
+  private void discard() {
+    if (recording == null) {
+      return;
+    }
+    recording.close();
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      logger.warn("Nao foi possivel remover a gravacao anterior {}: {}", file, e.getMessage());
+    }
+    recording = null;
+    file = null;
+  }
+
+  private static long sizeOf(Path path) {
+    try {
+      return Files.size(path);
+    } catch (IOException e) {
+      return -1;
+    }
+  }
+}
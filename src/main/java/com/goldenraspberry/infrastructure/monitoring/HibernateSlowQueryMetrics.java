@@ -0,0 +1,42 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publica as consultas lentas registradas pelo Hibernate (acima de {@code
+ * hibernate.log_slow_query}), que tambem sao logadas em {@code org.hibernate.SQL_SLOW}. As demais
+ * estatisticas (comandos, carregamentos de entidades, flushes, cache) sao publicadas como {@code
+ * hibernate.*} pelo hibernate-micrometer.
+ */
+@Component
+public class HibernateSlowQueryMetrics implements MeterBinder {
+
+  private final Statistics statistics;
+
+  @Autowired
+  public HibernateSlowQueryMetrics(EntityManagerFactory entityManagerFactory) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("hibernate.query.slow", statistics, s -> s.getSlowQueries().size())
+        .description("Comandos SQL distintos que ja excederam o limite de consulta lenta")
+        .baseUnit("statements")
+        .register(registry);
+    Gauge.builder(
+            "hibernate.query.slow.max",
+            statistics,
+            s -> s.getSlowQueries().values().stream().mapToLong(Long::longValue).max().orElse(0))
+        .description("Maior duracao registrada entre as consultas lentas")
+        .baseUnit("milliseconds")
+        .register(registry);
+  }
+}
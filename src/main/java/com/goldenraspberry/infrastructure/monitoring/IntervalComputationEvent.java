@@ -0,0 +1,33 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Evento do JDK Flight Recorder para o calculo dos intervalos minimo e maximo entre premios */
+@Name("goldenraspberry.IntervalComputation")
+@Label("Interval Computation")
+@Category({"Golden Raspberry", "Computation"})
+@Description("Execucao de ProducerIntervalCalculator.findMinMaxIntervals")
+@StackTrace(false)
+class IntervalComputationEvent extends Event {
+
+  @Label("Movies")
+  int movies;
+
+  @Label("Winners")
+  int winners;
+
+  @Label("Producers")
+  @Description("Produtores distintos entre os filmes vencedores")
+  int producers;
+
+  @Label("Min Intervals")
+  int minIntervals;
+
+  @Label("Max Intervals")
+  int maxIntervals;
+}
@@ -0,0 +1,85 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cronometra cada camada do atendimento de uma requisicao no timer {@code app.operation}, com as
+ * tags {@code layer} (usecase, repository, mapping, computation) e {@code operation}
+ * (Classe.metodo). Comparado com {@code http.server.requests}, mostra se a lentidao vem do banco,
+ * do mapeamento, do calculo ou da serializacao (o restante).
+ *
+ * <p>Fica na infraestrutura para que dominio e aplicacao nao dependam do Micrometer (o jar core e
+ * reutilizado pela variante reativa). Histogramas e SLOs sao configurados por propriedades
+ * (management.metrics.distribution.*).
+ */
+@Aspect
+@Component
+public class LayerTimingAspect {
+
+  static final String TIMER_NAME = "app.operation";
+
+  private final MeterRegistry meterRegistry;
+  private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+  @Autowired
+  public LayerTimingAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(* com.goldenraspberry.application.usecase..*UseCase.execute(..))")
+  public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("usecase", joinPoint);
+  }
+
+  @Around(
+      "execution(* com.goldenraspberry.domain.port.MovieRepository.findAll())"
+          + " || execution(* com.goldenraspberry.application.port.MovieReadModel.findAll(..))")
+  public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("repository", joinPoint);
+  }
+
+  @Around(
+      "execution(*"
+          + " com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper.to*List(..))")
+  public Object timeMapping(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("mapping", joinPoint);
+  }
+
+  @Around(
+      "execution(*"
+          + " com.goldenraspberry.domain.service.ProducerIntervalCalculator.findMinMaxIntervals(..))")
+  public Object timeComputation(ProceedingJoinPoint joinPoint) throws Throwable {
+    return time("computation", joinPoint);
+  }
+
+  private Object time(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    Timer timer = timers.computeIfAbsent(method, m -> register(layer, m));
+    long start = System.nanoTime();
+    try {
+      return joinPoint.proceed();
+    } finally {
+      timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private Timer register(String layer, Method method) {
+    String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    return Timer.builder(TIMER_NAME)
+        .description("Duracao por camada do atendimento (caso de uso, banco, mapeamento, calculo)")
+        .tag("layer", layer)
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
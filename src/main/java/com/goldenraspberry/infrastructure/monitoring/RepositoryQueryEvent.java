@@ -0,0 +1,28 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Evento do JDK Flight Recorder para as buscas do repositorio e do modelo de leitura de filmes */
+@Name("goldenraspberry.RepositoryQuery")
+@Label("Repository Query")
+@Category({"Golden Raspberry", "Persistence"})
+@Description("Execucao de um metodo find* de MovieRepository ou MovieReadModel")
+@StackTrace(false)
+class RepositoryQueryEvent extends Event {
+
+  @Label("Port")
+  @Description("Porta consultada: MovieRepository ou MovieReadModel")
+  String port;
+
+  @Label("Operation")
+  String operation;
+
+  @Label("Results")
+  @Description("Filmes devolvidos, ou -1 se o tipo de retorno nao for uma colecao")
+  int results;
+}
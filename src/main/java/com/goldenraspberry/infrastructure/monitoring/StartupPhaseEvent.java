@@ -0,0 +1,26 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento do JDK Flight Recorder para uma fase da inicializacao (ver {@link StartupPhaseRecorder})
+ */
+@Name("goldenraspberry.StartupPhase")
+@Label("Startup Phase")
+@Category({"Golden Raspberry", "Startup"})
+@Description("Fase cronometrada da inicializacao e da carga inicial de dados")
+@StackTrace(false)
+class StartupPhaseEvent extends Event {
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Tags")
+  @Description("Informacoes da fase no formato chave=valor")
+  String tags;
+}
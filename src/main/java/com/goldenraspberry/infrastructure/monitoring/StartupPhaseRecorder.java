@@ -0,0 +1,122 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra as fases de inicializacao da aplicacao. Cada fase gera um {@link StartupStep} (visivel
+ * em /actuator/startup) e um evento do JDK Flight Recorder, e tem sua duracao guardada para o
+ * endpoint /actuator/startupphases.
+ */
+@Component
+public class StartupPhaseRecorder {
+
+  private static final String STEP_PREFIX = "goldenraspberry.";
+
+  private final ApplicationStartup applicationStartup;
+  private final Map<String, Long> phaseDurationsMs = new LinkedHashMap<>();
+
+  private volatile Long contextReadyMs;
+  private volatile Long jvmUptimeAtReadyMs;
+  private volatile Long jvmUptimeAtDataReadyMs;
+
+  @Autowired
+  public StartupPhaseRecorder(ApplicationStartup applicationStartup) {
+    this.applicationStartup = applicationStartup;
+  }
+
+  /**
+   * Inicia uma fase cronometrada. Deve ser usada com try-with-resources.
+   *
+   * @param name Nome da fase (ex.: "data.csv-parse")
+   * @return Fase em andamento
+   */
+  public Phase start(String name) {
+    return new Phase(name, applicationStartup.start(STEP_PREFIX + name));
+  }
+
+  /** Marca o momento em que os dados iniciais ficaram disponiveis para consulta */
+  public void markDataReady() {
+    jvmUptimeAtDataReadyMs = ManagementFactory.getRuntimeMXBean().getUptime();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  void onApplicationReady(ApplicationReadyEvent event) {
+    Duration timeTaken = event.getTimeTaken();
+    contextReadyMs = timeTaken != null ? timeTaken.toMillis() : null;
+    jvmUptimeAtReadyMs = ManagementFactory.getRuntimeMXBean().getUptime();
+  }
+
+  /**
+   * Retorna um retrato das duracoes registradas
+   *
+   * @return Mapa com tempos do contexto e das fases de carga de dados
+   */
+  public Map<String, Object> snapshot() {
+    Map<String, Object> snapshot = new LinkedHashMap<>();
+    snapshot.put("contextReadyMs", contextReadyMs);
+    snapshot.put("jvmUptimeAtReadyMs", jvmUptimeAtReadyMs);
+    snapshot.put("jvmUptimeAtDataReadyMs", jvmUptimeAtDataReadyMs);
+    synchronized (phaseDurationsMs) {
+      snapshot.put("phases", new LinkedHashMap<>(phaseDurationsMs));
+    }
+    return snapshot;
+  }
+
+  private void record(String name, long durationMs) {
+    synchronized (phaseDurationsMs) {
+      phaseDurationsMs.put(name, durationMs);
+    }
+  }
+
+  /** Fase cronometrada em andamento */
+  public final class Phase implements AutoCloseable {
+
+    private final String name;
+    private final StartupStep step;
+    private final StartupPhaseEvent event = new StartupPhaseEvent();
+    private final StringJoiner tags = new StringJoiner(", ");
+    private final long startNanos;
+
+    private Phase(String name, StartupStep step) {
+      this.name = name;
+      this.step = step;
+      this.startNanos = System.nanoTime();
+      event.begin();
+    }
+
+    /**
+     * Adiciona uma informacao ao passo de inicializacao
+     *
+     * @param key Chave da informacao
+     * @param value Valor da informacao
+     * @return A propria fase
+     */
+    public Phase tag(String key, Object value) {
+      step.tag(key, String.valueOf(value));
+      tags.add(key + "=" + value);
+      return this;
+    }
+
+    @Override
+    public void close() {
+      step.end();
+      event.end();
+      if (event.shouldCommit()) {
+        event.phase = name;
+        event.tags = tags.toString();
+        event.commit();
+      }
+      record(name, Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint do Actuator que expoe o resumo das fases de inicializacao. Os passos detalhados do
+ * contexto Spring ficam em /actuator/startup.
+ */
+@Component
+@Endpoint(id = "startupphases")
+public class StartupPhasesEndpoint {
+
+  private final StartupPhaseRecorder phaseRecorder;
+
+  @Autowired
+  public StartupPhasesEndpoint(StartupPhaseRecorder phaseRecorder) {
+    this.phaseRecorder = phaseRecorder;
+  }
+
+  @ReadOperation
+  public Map<String, Object> phases() {
+    return phaseRecorder.snapshot();
+  }
+}
@@ -0,0 +1,71 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.port.MovieReadModel;
+import com.goldenraspberry.domain.port.MovieRepository;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumnStore;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumns;
+import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MovieReadModel com persistencia JPA. Projeta as entidades direto em DTOs (entidade para DTO, uma
+ * copia por filme) em vez de entidade para dominio para DTO.
+ *
+ * <p>Com a copia colunar habilitada ({@link MovieColumnStore}), a listagem completa e as paginas
+ * ordenadas por ID saem dela, com titulo e estudios escritos direto da memoria fora do heap.
+ */
+@Repository
+public class JpaMovieReadModel implements MovieReadModel {
+
+  private final MovieJpaRepository jpaRepository;
+  private final MovieEntityMapper entityMapper;
+  private final MovieRepository movieRepository;
+  private final MovieColumnStore columnStore;
+
+  @Autowired
+  public JpaMovieReadModel(
+      MovieJpaRepository jpaRepository,
+      MovieEntityMapper entityMapper,
+      MovieRepository movieRepository,
+      MovieColumnStore columnStore) {
+    this.jpaRepository = jpaRepository;
+    this.entityMapper = entityMapper;
+    this.movieRepository = movieRepository;
+    this.columnStore = columnStore;
+  }
+
+  @Override
+  public List<MovieDto> findAll() {
+    if (columnStore.isEnabled()) {
+      MovieColumns columns = columnStore.columns();
+      return columns.toDtoList(0, columns.size());
+    }
+    return entityMapper.toDtoList(jpaRepository.findAll());
+  }
+
+  @Override
+  public Page<MovieDto> findAll(Pageable pageable) {
+    if (columnStore.isEnabled() && isOrderedById(pageable.getSort())) {
+      // A copia colunar ja esta em ordem de ID: a pagina e um intervalo de linhas
+      MovieColumns columns = columnStore.columns();
+      int from = (int) Math.min(pageable.getOffset(), columns.size());
+      List<MovieDto> movies = columns.toDtoList(from, from + pageable.getPageSize());
+      return new PageImpl<>(movies, pageable, columns.size());
+    }
+    List<MovieDto> movies = entityMapper.toDtoList(jpaRepository.findAllBy(pageable));
+    // Contagem mantida pelo repositorio de dominio, recalculada so quando a base muda
+    return new PageImpl<>(movies, pageable, movieRepository.count());
+  }
+
+  private static boolean isOrderedById(Sort sort) {
+    return sort.isUnsorted() || sort.equals(Sort.by(Sort.Direction.ASC, "id"));
+  }
+}
@@ -0,0 +1,51 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Limpa as regioes do cache de segundo nivel de filmes. Usado nas recargas completas da base, em
+ * que todos os filmes sao substituidos de uma vez.
+ */
+@Component
+public class MovieCacheEvictor {
+
+  private final EntityManagerFactory entityManagerFactory;
+
+  @Autowired
+  public MovieCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  /**
+   * Limpa as regioes de filmes ao final da transacao atual (ou imediatamente, se nao houver
+   * transacao). Limpar apos o commit evita que outra requisicao repopule o cache com dados antigos
+   * enquanto a recarga ainda nao foi confirmada.
+   */
+  public void evictAfterCompletion() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      evictAll();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            evictAll();
+          }
+        });
+  }
+
+  /** Limpa imediatamente a regiao de entidades de filmes e os resultados de consultas */
+  public void evictAll() {
+    Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+    cache.evictEntityData(MovieJpaEntity.class);
+    cache.evictQueryRegions();
+  }
+}
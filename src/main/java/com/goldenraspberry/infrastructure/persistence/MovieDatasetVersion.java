@@ -0,0 +1,43 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Versao da base de filmes. E incrementada a cada escrita para que dados derivados (contagens,
+ * caches, indices) sejam recalculados apenas quando a base muda.
+ */
+@Component
+public class MovieDatasetVersion {
+
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * Obtem a versao atual da base
+   *
+   * @return Versao atual
+   */
+  public long current() {
+    return version.get();
+  }
+
+  /**
+   * Registra uma alteracao na base. Dentro de uma transacao, a versao tambem e incrementada ao
+   * final dela, para que leituras feitas antes do commit nao fiquem associadas a versao nova.
+   */
+  public void markChanged() {
+    version.incrementAndGet();
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(
+          new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+              version.incrementAndGet();
+            }
+          });
+    }
+  }
+}
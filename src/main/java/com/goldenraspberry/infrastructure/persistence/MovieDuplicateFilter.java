@@ -0,0 +1,264 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import com.goldenraspberry.common.util.BloomFilter;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Filtro de Bloom sobre as chaves (titulo, ano) dos filmes. Quando o filtro responde que a chave
+ * certamente nao existe, a verificacao de duplicidade dispensa o banco; apenas os possiveis
+ * duplicados sao confirmados pela consulta indexada.
+ */
+@Component
+public class MovieDuplicateFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(MovieDuplicateFilter.class);
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+  private static final long MIN_EXPECTED_INSERTIONS = 1024;
+  private static final String METRIC_PREFIX = "movies.duplicate.filter";
+
+  private final MovieJpaRepository jpaRepository;
+  private final Counter negatives;
+  private final Counter falsePositives;
+  private final Counter truePositives;
+  // Lock em vez de synchronized: a reconstrucao le o banco e nao deve fixar (pin) a thread
+  // portadora quando executada em virtual thread
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+
+  // Filtro em uso; nulo ate a primeira construcao (todas as consultas vao ao banco)
+  private volatile BloomFilter current;
+  // Filtro em reconstrucao, que tambem recebe as insercoes feitas durante a leitura da base
+  private volatile BloomFilter building;
+  // Filtro de uma carga completa ainda nao confirmada, que tambem recebe as insercoes concorrentes
+  private volatile BloomFilter replacing;
+
+  @Autowired
+  public MovieDuplicateFilter(MovieJpaRepository jpaRepository, MeterRegistry meterRegistry) {
+    this.jpaRepository = jpaRepository;
+    this.negatives = checkCounter(meterRegistry, "negative");
+    this.falsePositives = checkCounter(meterRegistry, "false_positive");
+    this.truePositives = checkCounter(meterRegistry, "true_positive");
+
+    Gauge.builder(METRIC_PREFIX + ".false_positive_rate", this, MovieDuplicateFilter::observedRate)
+        .description("Fracao das chaves ausentes que o filtro indicou como possivelmente presentes")
+        .register(meterRegistry);
+    Gauge.builder(
+            METRIC_PREFIX + ".expected_false_positive_rate",
+            this,
+            MovieDuplicateFilter::expectedRate)
+        .description("Taxa de falso positivo estimada pelo preenchimento do filtro")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Verifica se existe filme com titulo e ano, consultando o banco apenas em possiveis duplicados
+   *
+   * @param title Titulo do filme
+   * @param year Ano do filme
+   * @param lookup Consulta indexada que confirma a existencia
+   * @return true se existe, false caso contrario
+   */
+  public boolean exists(String title, Integer year, BooleanSupplier lookup) {
+    return check(current, title, year, lookup);
+  }
+
+  private boolean check(BloomFilter filter, String title, Integer year, BooleanSupplier lookup) {
+    if (filter != null && !filter.mightContain(key(title, year))) {
+      negatives.increment();
+      return false;
+    }
+
+    boolean exists = lookup.getAsBoolean();
+    if (filter != null) {
+      (exists ? truePositives : falsePositives).increment();
+    }
+    return exists;
+  }
+
+  /**
+   * Registra a chave de um filme inserido ou atualizado
+   *
+   * @param title Titulo do filme
+   * @param year Ano do filme
+   */
+  public void put(String title, Integer year) {
+    String key = key(title, year);
+    // Le a carga antes do filtro em uso: a publicacao troca o filtro em uso antes de limpar a carga
+    BloomFilter loading = replacing;
+    if (loading != null) {
+      loading.put(key);
+    }
+    BloomFilter filter = current;
+    if (filter != null) {
+      filter.put(key);
+    }
+    BloomFilter next = building;
+    if (next != null) {
+      next.put(key);
+    }
+  }
+
+  /**
+   * Inicia a substituicao do filtro para uma carga que apaga todos os filmes antes de inserir os
+   * novos, dentro da transacao atual. A carga consulta e preenche um filtro proprio, que tambem
+   * recebe as chaves registradas por {@link #put} enquanto ela esta em andamento; o filtro em uso
+   * so e trocado apos o commit, de modo que escritas concorrentes continuam vendo os filmes que
+   * ainda estao gravados. Em caso de rollback o filtro em uso permanece.
+   *
+   * @param expectedInsertions Quantidade esperada de filmes
+   * @return Filtro da carga
+   * @throws IllegalStateException se nao houver transacao ativa
+   */
+  public Replacement beginReplacement(long expectedInsertions) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Substituicao do filtro de duplicidade exige transacao");
+    }
+
+    BloomFilter loading = BloomFilter.create(sized(expectedInsertions), FALSE_POSITIVE_RATE);
+    replacing = loading;
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+              current = loading;
+            }
+            replacing = null;
+          }
+        });
+    return new Replacement(loading);
+  }
+
+  /** Reconstroi o filtro a partir das chaves gravadas no banco */
+  public void rebuild() {
+    BloomFilter fresh;
+    rebuildLock.lock();
+    try {
+      fresh = BloomFilter.create(sized(jpaRepository.count()), FALSE_POSITIVE_RATE);
+      building = fresh;
+      try {
+        jpaRepository
+            .findAllTitleAndYearBy()
+            .forEach(row -> fresh.put(key(row.title(), row.year())));
+        current = fresh;
+      } finally {
+        building = null;
+      }
+    } finally {
+      rebuildLock.unlock();
+    }
+    logger.debug(
+        "Filtro de duplicidade reconstruido: {} bits, {} funcoes de hash",
+        fresh.bitSize(),
+        fresh.hashCount());
+  }
+
+  /**
+   * Reconstroi o filtro ao final da transacao atual (ou imediatamente, se nao houver transacao),
+   * para que reflita exatamente o que ficou gravado, inclusive em caso de rollback
+   */
+  public void rebuildAfterCompletion() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      rebuild();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            rebuild();
+          }
+        });
+  }
+
+  /**
+   * Tamanho do filtro em uso
+   *
+   * @return Quantidade de bits, ou 0 antes da primeira construcao
+   */
+  public long bitSize() {
+    BloomFilter filter = current;
+    return filter != null ? filter.bitSize() : 0;
+  }
+
+  /**
+   * Funcoes de hash do filtro em uso
+   *
+   * @return Quantidade de funcoes de hash, ou 0 antes da primeira construcao
+   */
+  public int hashCount() {
+    BloomFilter filter = current;
+    return filter != null ? filter.hashCount() : 0;
+  }
+
+  private double observedRate() {
+    double fp = falsePositives.count();
+    double total = fp + negatives.count();
+    return total == 0 ? 0 : fp / total;
+  }
+
+  private double expectedRate() {
+    BloomFilter filter = current;
+    return filter != null ? filter.expectedFalsePositiveRate() : 0;
+  }
+
+  private static long sized(long expectedInsertions) {
+    return Math.max(MIN_EXPECTED_INSERTIONS, expectedInsertions * 2);
+  }
+
+  private static String key(String title, Integer year) {
+    return year + "\u0000" + title;
+  }
+
+  /** Filtro preenchido por uma carga completa, publicado no commit da transacao da carga */
+  public final class Replacement {
+
+    private final BloomFilter filter;
+
+    private Replacement(BloomFilter filter) {
+      this.filter = filter;
+    }
+
+    /**
+     * Verifica se a carga ja gravou filme com titulo e ano, consultando o banco apenas em possiveis
+     * duplicados
+     *
+     * @param title Titulo do filme
+     * @param year Ano do filme
+     * @param lookup Consulta indexada que confirma a existencia
+     * @return true se existe, false caso contrario
+     */
+    public boolean exists(String title, Integer year, BooleanSupplier lookup) {
+      return check(filter, title, year, lookup);
+    }
+
+    /**
+     * Registra a chave de um filme gravado pela carga
+     *
+     * @param title Titulo do filme
+     * @param year Ano do filme
+     */
+    public void put(String title, Integer year) {
+      filter.put(key(title, year));
+    }
+  }
+
+  private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(METRIC_PREFIX + ".checks")
+        .description("Verificacoes de duplicidade por resultado do filtro")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,33 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual. Registrado como {@code
+ * hibernate.session_factory.statement_inspector}; o Hibernate instancia a classe pelo nome.
+ *
+ * <p>Cada insercao em lote conta uma vez por lote (o comando e preparado uma vez), entao o total
+ * reflete as idas ao banco: usado para medir comandos por requisicao e, nos testes, para detectar
+ * regressoes como insercoes linha a linha ou N+1.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  /**
+   * Total de comandos preparados pela thread atual desde o inicio
+   *
+   * <p>Para medir um trecho, subtraia o valor lido antes dele.
+   *
+   * @return Total acumulado da thread
+   */
+  public static long current() {
+    return COUNT.get()[0];
+  }
+}
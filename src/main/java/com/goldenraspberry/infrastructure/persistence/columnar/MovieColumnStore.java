@@ -0,0 +1,146 @@
+package com.goldenraspberry.infrastructure.persistence.columnar;
+
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.common.util.Utf8Arena;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository.MovieRow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Mantem a {@link MovieColumns} da versao atual da base. Opcional ({@code
+ * app.storage.columnar.enabled}): com ela, as listagens sao servidas da copia colunar, com titulo e
+ * estudios fora do heap, em vez de entidades JPA. Indicada para bases grandes com escritas raras
+ * (carregadas em lote): cada alteracao faz a proxima listagem reconstruir a copia inteira.
+ *
+ * <p>Vencedores, intervalos e escritas continuam pelo repositorio de dominio e nunca leem a arena.
+ * As estatisticas da base contam vencedores e anos nas colunas numericas, pela {@link ColumnScan}
+ * configurada, tambem sem ler a arena.
+ */
+@Component
+public class MovieColumnStore {
+
+  private static final Logger logger = LoggerFactory.getLogger(MovieColumnStore.class);
+
+  private final boolean enabled;
+  private final int chunkBytes;
+  private final MovieJpaRepository jpaRepository;
+  private final MovieDatasetVersion datasetVersion;
+  private final ColumnScan columnScan;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ReentrantLock refreshLock = new ReentrantLock();
+
+  private volatile MovieColumns columns;
+
+  @Autowired
+  public MovieColumnStore(
+      @Value("${app.storage.columnar.enabled:false}") boolean enabled,
+      @Value("${app.storage.columnar.chunk-bytes:" + Utf8Arena.DEFAULT_CHUNK_BYTES + "}")
+          int chunkBytes,
+      MovieJpaRepository jpaRepository,
+      MovieDatasetVersion datasetVersion,
+      ColumnScan columnScan,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.chunkBytes = chunkBytes;
+    this.jpaRepository = jpaRepository;
+    this.datasetVersion = datasetVersion;
+    this.columnScan = columnScan;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+
+    Gauge.builder("app.storage.columnar.rows", this, store -> store.loaded(MovieColumns::size))
+        .description("Filmes na copia colunar da base")
+        .register(meterRegistry);
+    Gauge.builder(
+            "app.storage.offheap.bytes",
+            this,
+            store -> store.loaded(MovieColumns::offHeapReservedBytes))
+        .description("Memoria fora do heap reservada para titulo e estudios")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Indica se as listagens devem ser servidas pela copia colunar
+   *
+   * @return true se habilitado
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Obtem a copia colunar da versao atual da base, reconstruindo-a se a base mudou
+   *
+   * @return Colunas da versao atual
+   */
+  public MovieColumns columns() {
+    long version = datasetVersion.current();
+    MovieColumns cached = columns;
+    if (cached != null && cached.version() == version) {
+      return cached;
+    }
+
+    // Lock em vez de synchronized: a reconstrucao le o banco e nao deve fixar a thread portadora
+    refreshLock.lock();
+    try {
+      cached = columns;
+      if (cached != null && cached.version() == version) {
+        return cached;
+      }
+      MovieColumns fresh = build(version);
+      columns = fresh;
+      return fresh;
+    } finally {
+      refreshLock.unlock();
+    }
+  }
+
+  /**
+   * Obtem a copia colunar ja construida, sem reconstrui-la
+   *
+   * @return Ultima copia construida, possivelmente de uma versao anterior da base, ou vazio
+   */
+  public Optional<MovieColumns> loadedColumns() {
+    return Optional.ofNullable(columns);
+  }
+
+  private MovieColumns build(long version) {
+    long start = System.nanoTime();
+    MovieColumns built =
+        readOnlyTransaction.execute(
+            status -> {
+              MovieColumns.Builder builder = MovieColumns.builder(version, chunkBytes, columnScan);
+              try (Stream<MovieRow> rows = jpaRepository.streamAllRowsByOrderByIdAsc()) {
+                rows.forEach(builder::add);
+              }
+              return builder.build();
+            });
+    logger.info(
+        "Copia colunar da versao {} construida: {} filmes, {} bytes de texto fora do heap em {} ms",
+        version,
+        built.size(),
+        built.offHeapUsedBytes(),
+        (System.nanoTime() - start) / 1_000_000);
+    return built;
+  }
+
+  private double loaded(ToLongFunction<MovieColumns> metric) {
+    MovieColumns current = columns;
+    return current != null ? metric.applyAsLong(current) : 0;
+  }
+}
@@ -0,0 +1,233 @@
+package com.goldenraspberry.infrastructure.persistence.columnar;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.common.util.Utf8Arena;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository.MovieRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Copia colunar e imutavel da base, ordenada por ID, associada a uma versao da base. Colunas
+ * numericas ficam em arrays primitivos; titulo e estudios ficam em UTF-8 numa {@link Utf8Arena}
+ * fora do heap e so sao lidos ao serializar a resposta das listagens. Produtores sao os nomes
+ * canonicos do pool de Producer, compartilhados entre as linhas.
+ *
+ * <p>Vencedores formam um bitset de linhas ({@link #selectWinners}); contagens e anos das linhas
+ * selecionadas leem apenas as colunas numericas, nunca a arena, e menor e maior ano passam pela
+ * {@link ColumnScan} configurada, escalar ou vetorizada.
+ */
+public final class MovieColumns {
+
+  private final long version;
+  private final int size;
+  private final long[] ids;
+  private final int[] years;
+  private final long[] winners;
+  private final long[] titles;
+  private final long[] studios;
+  private final List<List<String>> producers;
+  private final Utf8Arena text;
+  private final ColumnScan scan;
+
+  private MovieColumns(Builder builder) {
+    this.version = builder.version;
+    this.size = builder.size;
+    this.ids = Arrays.copyOf(builder.ids, size);
+    this.years = Arrays.copyOf(builder.years, size);
+    this.winners = Arrays.copyOf(builder.winners, (size + 63) >>> 6);
+    this.titles = Arrays.copyOf(builder.titles, size);
+    this.studios = Arrays.copyOf(builder.studios, size);
+    this.producers = List.copyOf(builder.producers);
+    this.text = builder.text;
+    this.scan = builder.scan;
+  }
+
+  /**
+   * Cria um construtor de colunas
+   *
+   * @param version Versao da base lida
+   * @param chunkBytes Tamanho dos blocos da arena de texto
+   * @param scan Varredura usada pelos filtros
+   * @return Construtor vazio
+   */
+  static Builder builder(long version, int chunkBytes, ColumnScan scan) {
+    return new Builder(version, chunkBytes, scan);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Converte as linhas [from, to) em DTOs que escrevem titulo e estudios direto dos bytes UTF-8
+   *
+   * @param from Primeira linha (inclusiva)
+   * @param to Ultima linha (exclusiva)
+   * @return DTOs na ordem de ID
+   */
+  public List<MovieDto> toDtoList(int from, int to) {
+    int end = Math.min(to, size);
+    List<MovieDto> dtos = new ArrayList<>(Math.max(0, end - from));
+    for (int row = from; row < end; row++) {
+      dtos.add(
+          new OffHeapMovieDto(
+              ids[row],
+              years[row],
+              text,
+              titles[row],
+              studios[row],
+              producers.get(row),
+              isWinner(row)));
+    }
+    return dtos;
+  }
+
+  /**
+   * Seleciona as linhas de filmes vencedores
+   *
+   * @return Bitset das linhas selecionadas (copia, pode ser alterado)
+   */
+  public long[] selectWinners() {
+    return winners.clone();
+  }
+
+  /**
+   * Quantidade de linhas selecionadas
+   *
+   * @param mask Bitset de linhas
+   * @return Linhas com bit ligado
+   */
+  public static int count(long[] mask) {
+    int count = 0;
+    for (long word : mask) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  /**
+   * Menor e maior ano entre as linhas selecionadas
+   *
+   * @param mask Bitset de linhas
+   * @return {@code {min, max}}, ou null se nenhuma linha estiver selecionada
+   */
+  public int[] yearRange(long[] mask) {
+    int min = scan.min(years, size, mask);
+    return min == Integer.MAX_VALUE ? null : new int[] {min, scan.max(years, size, mask)};
+  }
+
+  /**
+   * Anos distintos das linhas selecionadas
+   *
+   * @param mask Bitset de linhas
+   * @return Anos em ordem crescente
+   */
+  public List<Integer> distinctYears(long[] mask) {
+    int[] range = yearRange(mask);
+    if (range == null) {
+      return List.of();
+    }
+    boolean[] present = new boolean[range[1] - range[0] + 1];
+    forEachRow(mask, row -> present[years[row] - range[0]] = true);
+
+    List<Integer> distinct = new ArrayList<>();
+    for (int offset = 0; offset < present.length; offset++) {
+      if (present[offset]) {
+        distinct.add(range[0] + offset);
+      }
+    }
+    return distinct;
+  }
+
+  private static void forEachRow(long[] mask, IntConsumer action) {
+    for (int word = 0; word < mask.length; word++) {
+      long bits = mask[word];
+      while (bits != 0) {
+        action.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+        bits &= bits - 1;
+      }
+    }
+  }
+
+  /**
+   * Indica se a linha e de um filme vencedor
+   *
+   * @param row Linha
+   * @return true se venceu
+   */
+  public boolean isWinner(int row) {
+    return (winners[row >>> 6] & (1L << row)) != 0;
+  }
+
+  /**
+   * Memoria fora do heap reservada para titulo e estudios
+   *
+   * @return Bytes reservados
+   */
+  public long offHeapReservedBytes() {
+    return text.reservedBytes();
+  }
+
+  /**
+   * Bytes UTF-8 de titulo e estudios armazenados fora do heap
+   *
+   * @return Bytes usados
+   */
+  public long offHeapUsedBytes() {
+    return text.usedBytes();
+  }
+
+  /** Acumula linhas lidas do banco, em ordem de ID */
+  static final class Builder {
+
+    private final long version;
+    private final Utf8Arena text;
+    private final ColumnScan scan;
+    private final List<List<String>> producers = new ArrayList<>();
+    private int size;
+    private long[] ids = new long[1024];
+    private int[] years = new int[1024];
+    private long[] winners = new long[16];
+    private long[] titles = new long[1024];
+    private long[] studios = new long[1024];
+
+    private Builder(long version, int chunkBytes, ColumnScan scan) {
+      this.version = version;
+      this.text = new Utf8Arena(chunkBytes);
+      this.scan = scan;
+    }
+
+    void add(MovieRow row) {
+      if (size == ids.length) {
+        int capacity = size * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        years = Arrays.copyOf(years, capacity);
+        winners = Arrays.copyOf(winners, capacity >>> 6);
+        titles = Arrays.copyOf(titles, capacity);
+        studios = Arrays.copyOf(studios, capacity);
+      }
+
+      ids[size] = row.id();
+      years[size] = row.year();
+      if (Boolean.TRUE.equals(row.winner())) {
+        winners[size >>> 6] |= 1L << size;
+      }
+      titles[size] = text.append(row.title());
+      studios[size] = text.append(row.studios());
+      producers.add(List.copyOf(ProducerTokenizer.parseNames(row.producers())));
+      size++;
+    }
+
+    MovieColumns build() {
+      return new MovieColumns(this);
+    }
+  }
+}
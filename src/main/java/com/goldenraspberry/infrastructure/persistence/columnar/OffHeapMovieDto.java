@@ -0,0 +1,96 @@
+package com.goldenraspberry.infrastructure.persistence.columnar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.common.util.Utf8Arena;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * MovieDto cujo titulo e estudios continuam na arena fora do heap. Ao escrever a resposta HTTP, o
+ * serializador copia os bytes UTF-8 direto para o JSON ({@link JsonGenerator#writeUTF8String}), sem
+ * criar Strings; os getters decodificam apenas se chamados. Somente leitura: usado pelas listagens
+ * da {@link MovieColumns}.
+ */
+@JsonSerialize(using = OffHeapMovieDto.Serializer.class)
+final class OffHeapMovieDto extends MovieDto {
+
+  private final Utf8Arena text;
+  private final long titleHandle;
+  private final long studiosHandle;
+
+  OffHeapMovieDto(
+      long id,
+      int year,
+      Utf8Arena text,
+      long titleHandle,
+      long studiosHandle,
+      List<String> producers,
+      boolean winner) {
+    super(id, year, null, null, producers, winner);
+    this.text = text;
+    this.titleHandle = titleHandle;
+    this.studiosHandle = studiosHandle;
+  }
+
+  @Override
+  public String getTitle() {
+    return text.decode(titleHandle);
+  }
+
+  @Override
+  public String getStudios() {
+    return text.decode(studiosHandle);
+  }
+
+  /**
+   * Escreve os mesmos campos, na mesma ordem, que a serializacao padrao de MovieDto (nomes de uma
+   * palavra, iguais em snake_case; campos nulos omitidos)
+   */
+  static final class Serializer extends StdSerializer<OffHeapMovieDto> {
+
+    Serializer() {
+      super(OffHeapMovieDto.class);
+    }
+
+    @Override
+    public void serialize(OffHeapMovieDto dto, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+      byte[] buffer =
+          new byte
+              [Math.max(Utf8Arena.length(dto.titleHandle), Utf8Arena.length(dto.studiosHandle))];
+
+      generator.writeStartObject(dto);
+      generator.writeNumberField("id", dto.getId());
+      generator.writeNumberField("year", dto.getYear());
+      writeText(generator, "title", dto.text, dto.titleHandle, buffer);
+      writeText(generator, "studios", dto.text, dto.studiosHandle, buffer);
+      generator.writeArrayFieldStart("producers");
+      for (String producer : dto.getProducers()) {
+        generator.writeString(producer);
+      }
+      generator.writeEndArray();
+      generator.writeBooleanField("winner", dto.getWinner());
+      generator.writeEndObject();
+    }
+
+    private static void writeText(
+        JsonGenerator generator, String field, Utf8Arena text, long handle, byte[] buffer)
+        throws IOException {
+      if (handle == Utf8Arena.NULL) {
+        return;
+      }
+      generator.writeFieldName(field);
+      if (generator.getOutputTarget() instanceof OutputStream) {
+        generator.writeUTF8String(buffer, 0, text.copyTo(handle, buffer));
+      } else {
+        // Geradores baseados em Writer (writeValueAsString) so aceitam texto decodificado
+        generator.writeString(text.decode(handle));
+      }
+    }
+  }
+}
@@ -2,19 +2,34 @@ package com.goldenraspberry.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /** Movie JPA Entity */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = MovieJpaEntity.CACHE_REGION)
 @Table(
     name = "movies",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_movie_title_year",
+          columnNames = {"title", "movie_year"})
+    },
     indexes = {
-      @Index(name = "idx_movie_year", columnList = "movie_year"),
+      @Index(name = "idx_movie_year_id", columnList = "movie_year, id"),
+      @Index(name = "idx_movie_title_id", columnList = "title, id"),
       @Index(name = "idx_movie_winner", columnList = "winner")
     })
 public class MovieJpaEntity {
 
+  /** Regiao do cache de segundo nivel (configurada em application.conf) */
+  public static final String CACHE_REGION = "movies";
+
+  // SEQUENCE com alocacao em blocos permite agrupar os INSERTs em lotes JDBC (IDENTITY nao permite)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movie_seq")
+  @SequenceGenerator(name = "movie_seq", sequenceName = "movie_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "movie_year", nullable = false)
@@ -1,10 +1,12 @@
 package com.goldenraspberry.infrastructure.persistence.mapper;
 
+import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
 import com.goldenraspberry.domain.model.Year;
 import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
@@ -14,7 +16,6 @@ import org.springframework.stereotype.Component;
 public class MovieEntityMapper {
 
   private static final String PRODUCER_SEPARATOR = ", ";
-  private static final String PRODUCER_AND_SEPARATOR = " and ";
 
   /**
    * Converte entidade JPA para modelo de dominio
@@ -29,13 +30,34 @@ public class MovieEntityMapper {
 
     return new Movie(
         entity.getId(),
-        new Year(entity.getYear()),
+        Year.of(entity.getYear()),
         entity.getTitle(),
         entity.getStudios(),
         parseProducers(entity.getProducers()),
         entity.getWinner());
   }
 
+  /**
+   * Projeta a entidade JPA direto no DTO de resposta, sem passar pelo modelo de dominio. Usado
+   * pelas listagens somente leitura: os nomes dos produtores nao viram objetos Producer.
+   *
+   * @param entity Entidade JPA
+   * @return DTO do filme
+   */
+  public MovieDto toDto(MovieJpaEntity entity) {
+    if (entity == null) {
+      return null;
+    }
+
+    return new MovieDto(
+        entity.getId(),
+        entity.getYear(),
+        entity.getTitle(),
+        entity.getStudios(),
+        parseProducerNames(entity.getProducers()),
+        entity.getWinner());
+  }
+
   /**
    * Converte modelo de dominio para entidade JPA
    *
@@ -73,7 +95,29 @@ public class MovieEntityMapper {
       return List.of();
     }
 
-    return entities.stream().map(this::toDomain).collect(Collectors.toList());
+    List<Movie> movies = new ArrayList<>(entities.size());
+    for (MovieJpaEntity entity : entities) {
+      movies.add(toDomain(entity));
+    }
+    return movies;
+  }
+
+  /**
+   * Projeta lista de entidades JPA direto em DTOs de resposta
+   *
+   * @param entities Lista de entidades JPA
+   * @return Lista de DTOs, na mesma ordem
+   */
+  public List<MovieDto> toDtoList(List<MovieJpaEntity> entities) {
+    if (entities == null) {
+      return List.of();
+    }
+
+    List<MovieDto> dtos = new ArrayList<>(entities.size());
+    for (MovieJpaEntity entity : entities) {
+      dtos.add(toDto(entity));
+    }
+    return dtos;
   }
 
   /**
@@ -97,19 +141,25 @@ public class MovieEntityMapper {
    * @return Lista de producers
    */
   private List<Producer> parseProducers(String producersString) {
-    if (producersString == null || producersString.trim().isEmpty()) {
-      throw new IllegalArgumentException("Producers string nao pode ser nula ou vazia");
-    }
+    requireProducers(producersString);
+    return ProducerTokenizer.parse(producersString);
+  }
 
-    // Primeiro substitui ' and ' por ', ' para padronizar o separador
-    String normalizedProducers =
-        producersString.replace(PRODUCER_AND_SEPARATOR, PRODUCER_SEPARATOR);
+  /**
+   * Faz parsing da string de producers para lista de nomes
+   *
+   * @param producersString String com producers separados por virgula ou 'and'
+   * @return Nomes dos producers
+   */
+  private List<String> parseProducerNames(String producersString) {
+    requireProducers(producersString);
+    return ProducerTokenizer.parseNames(producersString);
+  }
 
-    return Arrays.stream(normalizedProducers.split(PRODUCER_SEPARATOR))
-        .map(String::trim)
-        .filter(name -> !name.isEmpty())
-        .map(Producer::new)
-        .collect(Collectors.toList());
+  private static void requireProducers(String producersString) {
+    if (producersString == null || producersString.isBlank()) {
+      throw new IllegalArgumentException("Producers string nao pode ser nula ou vazia");
+    }
   }
 
   /**
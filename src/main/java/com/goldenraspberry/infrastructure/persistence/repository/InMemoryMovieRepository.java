@@ -1,18 +1,28 @@
 package com.goldenraspberry.infrastructure.persistence;
 
+import com.goldenraspberry.common.util.Deadline;
+import com.goldenraspberry.common.util.SingleFlight;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.Year;
 import com.goldenraspberry.domain.port.MovieRepository;
 import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
 import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
 import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /** MovieRepository com persistencia JPA Implementacao do repositorio de filmes usando JPA */
 @Repository
@@ -20,11 +30,28 @@ public class InMemoryMovieRepository implements MovieRepository {
 
   private final MovieJpaRepository jpaRepository;
   private final MovieEntityMapper entityMapper;
+  private final MovieDatasetVersion datasetVersion;
+  private final MovieDuplicateFilter duplicateFilter;
+  // Leituras concorrentes de vencedores na mesma versao da base compartilham uma unica consulta
+  private final SingleFlight<Long, List<Movie>> winnersFlight;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  // Contagem total associada a versao da base em que foi calculada
+  private volatile CachedCount cachedCount;
 
   @Autowired
-  public InMemoryMovieRepository(MovieJpaRepository jpaRepository, MovieEntityMapper entityMapper) {
+  public InMemoryMovieRepository(
+      MovieJpaRepository jpaRepository,
+      MovieEntityMapper entityMapper,
+      MovieDatasetVersion datasetVersion,
+      MovieDuplicateFilter duplicateFilter,
+      MeterRegistry meterRegistry) {
     this.jpaRepository = jpaRepository;
     this.entityMapper = entityMapper;
+    this.datasetVersion = datasetVersion;
+    this.duplicateFilter = duplicateFilter;
+    this.winnersFlight = new SingleFlight<>("movies.winners", meterRegistry);
   }
 
   @Override
@@ -34,10 +61,24 @@ public class InMemoryMovieRepository implements MovieRepository {
   }
 
   @Override
-  public Page<Movie> findAll(Pageable pageable) {
-    Page<MovieJpaEntity> entityPage = jpaRepository.findAll(pageable);
-    List<Movie> movies = entityMapper.toDomainList(entityPage.getContent());
-    return new PageImpl<>(movies, pageable, entityPage.getTotalElements());
+  public Window<Movie> findAll(KeysetScrollPosition position, Sort sort, int limit) {
+    Window<MovieJpaEntity> window = jpaRepository.findAllBy(position, sort, Limit.of(limit));
+    return window.map(entityMapper::toDomain);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void forEachMovie(Consumer<Movie> action) {
+    try (Stream<MovieJpaEntity> entities = jpaRepository.streamAllByOrderByIdAsc()) {
+      entities.forEach(
+          entity -> {
+            Deadline.checkCurrent();
+            Movie movie = entityMapper.toDomain(entity);
+            // Libera a entidade do contexto de persistencia para manter a memoria constante
+            entityManager.detach(entity);
+            action.accept(movie);
+          });
+    }
   }
 
   @Override
@@ -47,11 +88,24 @@ public class InMemoryMovieRepository implements MovieRepository {
   }
 
   @Override
-  public List<Movie> findAllWinners() {
-    List<MovieJpaEntity> entities = jpaRepository.findByWinnerTrue();
+  public List<Movie> findAllById(Collection<Long> ids) {
+    List<MovieJpaEntity> entities = jpaRepository.findAllById(ids);
     return entityMapper.toDomainList(entities);
   }
 
+  @Override
+  public List<Movie> findAllByTitleIn(Collection<String> titles) {
+    List<MovieJpaEntity> entities = jpaRepository.findByTitleIn(titles);
+    return entityMapper.toDomainList(entities);
+  }
+
+  @Override
+  public List<Movie> findAllWinners() {
+    return winnersFlight.execute(
+        datasetVersion.current(),
+        () -> List.copyOf(entityMapper.toDomainList(jpaRepository.findByWinnerTrue())));
+  }
+
   @Override
   public List<Movie> findByYear(Year year) {
     List<MovieJpaEntity> entities = jpaRepository.findByYear(year.getValue());
@@ -68,6 +122,8 @@ public class InMemoryMovieRepository implements MovieRepository {
   public Movie save(Movie movie) {
     MovieJpaEntity entity = entityMapper.toEntity(movie);
     MovieJpaEntity savedEntity = jpaRepository.save(entity);
+    duplicateFilter.put(savedEntity.getTitle(), savedEntity.getYear());
+    datasetVersion.markChanged();
     return entityMapper.toDomain(savedEntity);
   }
 
@@ -75,17 +131,28 @@ public class InMemoryMovieRepository implements MovieRepository {
   public List<Movie> saveAll(List<Movie> moviesToSave) {
     List<MovieJpaEntity> entities = entityMapper.toEntityList(moviesToSave);
     List<MovieJpaEntity> savedEntities = jpaRepository.saveAll(entities);
+    savedEntities.forEach(saved -> duplicateFilter.put(saved.getTitle(), saved.getYear()));
+    datasetVersion.markChanged();
     return entityMapper.toDomainList(savedEntities);
   }
 
   @Override
   public void deleteById(Long id) {
     jpaRepository.deleteById(id);
+    datasetVersion.markChanged();
+  }
+
+  @Override
+  public void deleteAllById(Collection<Long> ids) {
+    jpaRepository.deleteAllByIdInBatch(ids);
+    datasetVersion.markChanged();
   }
 
   @Override
   public void deleteAll() {
-    jpaRepository.deleteAll();
+    // DELETE unico; o Hibernate invalida a regiao de cache da entidade em operacoes em lote
+    jpaRepository.deleteAllInBatch();
+    datasetVersion.markChanged();
   }
 
   @Override
@@ -95,11 +162,27 @@ public class InMemoryMovieRepository implements MovieRepository {
 
   @Override
   public boolean existsByTitleAndYear(String title, Integer year) {
-    return jpaRepository.existsByTitleAndYear(title, year);
+    return duplicateFilter.exists(
+        title, year, () -> jpaRepository.existsByTitleAndYear(title, year));
+  }
+
+  @Override
+  public boolean existsByTitleAndYearAndIdNot(String title, Integer year, Long id) {
+    return jpaRepository.existsByTitleAndYearAndIdNot(title, year, id);
   }
 
   @Override
   public long count() {
-    return jpaRepository.count();
+    long version = datasetVersion.current();
+    CachedCount cached = cachedCount;
+    if (cached != null && cached.version() == version) {
+      return cached.count();
+    }
+
+    long count = jpaRepository.count();
+    cachedCount = new CachedCount(version, count);
+    return count;
   }
+
+  private record CachedCount(long version, long count) {}
 }
@@ -1,9 +1,19 @@
 package com.goldenraspberry.infrastructure.persistence.repository;
 
 import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,18 +22,60 @@ import org.springframework.stereotype.Repository;
 public interface MovieJpaRepository extends JpaRepository<MovieJpaEntity, Long> {
 
   /**
-   * Busca todos os filmes vencedores
+   * Busca uma pagina de filmes sem executar a consulta de contagem total
+   *
+   * @param pageable Configuracao de paginacao
+   * @return Filmes da pagina
+   */
+  List<MovieJpaEntity> findAllBy(Pageable pageable);
+
+  /**
+   * Busca filmes a partir de uma posicao de keyset (seek). O ID e adicionado a ordenacao como
+   * desempate, de forma que a consulta usa os indices compostos (coluna, id) sem OFFSET.
+   *
+   * @param position Posicao apos o ultimo filme lido
+   * @param sort Ordenacao
+   * @param limit Quantidade maxima de filmes
+   * @return Janela de filmes com a posicao de cada item
+   */
+  Window<MovieJpaEntity> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+  /**
+   * Le todos os filmes ordenados por ID como um cursor JDBC. Deve ser consumido dentro de uma
+   * transacao e fechado ao final.
+   *
+   * @return Stream de filmes buscados do banco em lotes
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<MovieJpaEntity> streamAllByOrderByIdAsc();
+
+  /**
+   * Busca todos os filmes vencedores. O resultado fica no cache de consultas ate a proxima
+   * alteracao na tabela.
    *
    * @return Lista de filmes vencedores
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<MovieJpaEntity> findByWinnerTrue();
 
+  /**
+   * Busca filmes cujo titulo esta no conjunto informado. Usa o indice unico (title, movie_year).
+   *
+   * @param titles Titulos dos filmes
+   * @return Filmes com algum dos titulos
+   */
+  List<MovieJpaEntity> findByTitleIn(Collection<String> titles);
+
   /**
    * Busca filmes por ano
    *
    * @param year Ano do filme
    * @return Lista de filmes do ano especificado
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<MovieJpaEntity> findByYear(Integer year);
 
   /**
@@ -32,6 +84,7 @@ public interface MovieJpaRepository extends JpaRepository<MovieJpaEntity, Long>
    * @param year Ano do filme
    * @return Lista de filmes vencedores do ano especificado
    */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
   List<MovieJpaEntity> findByYearAndWinnerTrue(Integer year);
 
   /**
@@ -52,6 +105,48 @@ public interface MovieJpaRepository extends JpaRepository<MovieJpaEntity, Long>
    */
   boolean existsByTitleAndYear(String title, Integer year);
 
+  /**
+   * Busca apenas titulo e ano de todos os filmes, sem carregar as entidades
+   *
+   * @return Pares (titulo, ano)
+   */
+  List<TitleAndYear> findAllTitleAndYearBy();
+
+  /**
+   * Le apenas as colunas de texto de todos os filmes, sem carregar entidades no contexto de
+   * persistencia. Deve ser consumido dentro de uma transacao e fechado ao final.
+   *
+   * @return Stream do conteudo textual de cada filme, buscado do banco em lotes
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<TextColumns> streamAllTextColumnsBy();
+
+  /**
+   * Le as colunas de todos os filmes ordenados por ID, sem carregar entidades no contexto de
+   * persistencia. Deve ser consumido dentro de uma transacao e fechado ao final.
+   *
+   * @return Stream de linhas buscadas do banco em lotes
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<MovieRow> streamAllRowsByOrderByIdAsc();
+
+  /**
+   * Verifica se existe outro filme com titulo e ano especificos, ignorando o ID informado. Usa o
+   * indice unico (title, movie_year).
+   *
+   * @param title Titulo do filme
+   * @param year Ano do filme
+   * @param id ID do filme a desconsiderar
+   * @return true se existe, false caso contrario
+   */
+  boolean existsByTitleAndYearAndIdNot(String title, Integer year, Long id);
+
   /**
    * Busca filmes vencedores que contem um produtor especifico
    *
@@ -85,4 +180,14 @@ public interface MovieJpaRepository extends JpaRepository<MovieJpaEntity, Long>
    * @return Numero de filmes vencedores
    */
   long countByWinnerTrue();
+
+  /** Projecao com titulo e ano de um filme */
+  record TitleAndYear(String title, Integer year) {}
+
+  /** Projecao com as colunas de texto de um filme */
+  record TextColumns(String title, String studios, String producers) {}
+
+  /** Projecao com todas as colunas de um filme */
+  record MovieRow(
+      Long id, Integer year, String title, String studios, String producers, Boolean winner) {}
 }
@@ -0,0 +1,99 @@
+package com.goldenraspberry.infrastructure.service;
+
+import com.goldenraspberry.common.util.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Isola as cargas administrativas (upload e recarga de CSV) da API publica. As cargas executam uma
+ * por vez em uma thread propria, com fila de profundidade limitada: nao ocupam threads do Tomcat
+ * enquanto executam e usam no maximo uma conexao do pool. Com a fila cheia, novas cargas sao
+ * rejeitadas em vez de se acumularem.
+ */
+@Component
+public class ImportBulkhead {
+
+  private final ThreadPoolExecutor executor;
+  private final long retryAfterSeconds;
+  private final Counter rejected;
+
+  @Autowired
+  public ImportBulkhead(
+      @Value("${app.admin.import.queue-capacity:2}") int queueCapacity,
+      @Value("${app.admin.import.retry-after-seconds:30}") long retryAfterSeconds,
+      MeterRegistry meterRegistry) {
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+            task -> new Thread(task, "admin-import-" + threadCount.incrementAndGet()),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.rejected =
+        Counter.builder("admin.imports.rejected")
+            .description("Cargas rejeitadas por fila cheia")
+            .register(meterRegistry);
+
+    Gauge.builder("admin.imports.queued", executor, pool -> pool.getQueue().size())
+        .description("Cargas aguardando execucao")
+        .register(meterRegistry);
+    Gauge.builder("admin.imports.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Cargas em execucao")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Enfileira uma carga
+   *
+   * @param task Carga a executar
+   * @return Resultado da carga, concluido quando ela terminar
+   * @throws RejectedExecutionException se a fila estiver cheia
+   */
+  public <T> CompletableFuture<T> submit(Supplier<T> task) {
+    try {
+      // A carga executa com o prazo da requisicao; se ele expirar na fila, a carga nem comeca
+      Deadline deadline = Deadline.current();
+      return CompletableFuture.supplyAsync(
+          () ->
+              deadline.call(
+                  () -> {
+                    deadline.check();
+                    return task.get();
+                  }),
+          executor);
+    } catch (RejectedExecutionException e) {
+      rejected.increment();
+      throw e;
+    }
+  }
+
+  /**
+   * Tempo sugerido ao cliente antes de tentar novamente uma carga rejeitada
+   *
+   * @return Segundos para o cabecalho Retry-After
+   */
+  public long retryAfterSeconds() {
+    return retryAfterSeconds;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdown();
+  }
+}
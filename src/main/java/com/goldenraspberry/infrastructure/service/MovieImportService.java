@@ -0,0 +1,105 @@
+package com.goldenraspberry.infrastructure.service;
+
+import com.goldenraspberry.common.util.Deadline;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.infrastructure.persistence.MovieCacheEvictor;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import com.goldenraspberry.infrastructure.persistence.MovieDuplicateFilter;
+import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
+import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Servico de cargas completas: substitui todos os filmes da base pelos informados */
+@Service
+public class MovieImportService {
+
+  private static final Logger logger = LoggerFactory.getLogger(MovieImportService.class);
+
+  private final MovieEntityMapper entityMapper;
+  private final MovieJpaRepository movieRepository;
+  private final MovieDatasetVersion datasetVersion;
+  private final MovieCacheEvictor cacheEvictor;
+  private final MovieDuplicateFilter duplicateFilter;
+
+  @Autowired
+  public MovieImportService(
+      MovieEntityMapper entityMapper,
+      MovieJpaRepository movieRepository,
+      MovieDatasetVersion datasetVersion,
+      MovieCacheEvictor cacheEvictor,
+      MovieDuplicateFilter duplicateFilter) {
+    this.entityMapper = entityMapper;
+    this.movieRepository = movieRepository;
+    this.datasetVersion = datasetVersion;
+    this.cacheEvictor = cacheEvictor;
+    this.duplicateFilter = duplicateFilter;
+  }
+
+  /**
+   * Apaga todos os filmes e salva os informados, em uma unica transacao
+   *
+   * @param movies Filmes da nova carga
+   * @return Totais da base apos a carga
+   */
+  @Transactional
+  public ImportResult replaceAll(List<Movie> movies) {
+    logger.info("Limpando dados existentes...");
+    movieRepository.deleteAllInBatch();
+
+    logger.info("Salvando {} filmes...", movies.size());
+    int duplicatesSkipped = saveSkippingDuplicates(movies);
+    datasetVersion.markChanged();
+    cacheEvictor.evictAfterCompletion();
+
+    long totalMovies = movieRepository.count();
+    long winnerMovies = movieRepository.countByWinnerTrue();
+    return new ImportResult(totalMovies, winnerMovies, duplicatesSkipped);
+  }
+
+  /**
+   * Salva os filmes de uma carga completa ignorando linhas repetidas (mesmo titulo e ano). A base
+   * deve ter sido limpa antes: a carga usa um filtro de duplicidade proprio, que comeca vazio,
+   * recebe tambem as escritas concorrentes e so substitui o filtro em uso apos o commit; apenas os
+   * possiveis duplicados sao confirmados no banco.
+   *
+   * @param movies Filmes a salvar
+   * @return Quantidade de linhas repetidas ignoradas
+   */
+  private int saveSkippingDuplicates(List<Movie> movies) {
+    MovieDuplicateFilter.Replacement loaded = duplicateFilter.beginReplacement(movies.size());
+
+    int skipped = 0;
+    for (MovieJpaEntity entity : entityMapper.toEntityList(movies)) {
+      // Carga abandonada pelo prazo ou pelo cliente: a transacao e desfeita
+      Deadline.checkCurrent();
+      String title = entity.getTitle();
+      Integer year = entity.getYear();
+      if (loaded.exists(title, year, () -> movieRepository.existsByTitleAndYear(title, year))) {
+        skipped++;
+        continue;
+      }
+      movieRepository.save(entity);
+      loaded.put(title, year);
+    }
+
+    if (skipped > 0) {
+      logger.warn("{} linhas repetidas (mesmo título e ano) foram ignoradas", skipped);
+    }
+    return skipped;
+  }
+
+  /**
+   * Totais da base apos uma carga
+   *
+   * @param totalMovies Total de filmes
+   * @param winnerMovies Total de filmes vencedores
+   * @param duplicatesSkipped Linhas repetidas ignoradas
+   */
+  public record ImportResult(long totalMovies, long winnerMovies, int duplicatesSkipped) {}
+}
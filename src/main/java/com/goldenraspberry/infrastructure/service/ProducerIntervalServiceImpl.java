@@ -1,10 +1,13 @@
 package com.goldenraspberry.infrastructure.service;
 
+import com.goldenraspberry.common.util.SingleFlight;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.domain.model.ProducerInterval;
 import com.goldenraspberry.domain.port.MovieRepository;
 import com.goldenraspberry.domain.port.ProducerIntervalService;
 import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,18 +19,30 @@ public class ProducerIntervalServiceImpl implements ProducerIntervalService {
 
   private final MovieRepository movieRepository;
   private final ProducerIntervalCalculator intervalCalculator;
+  private final MovieDatasetVersion datasetVersion;
+  // Requisicoes concorrentes na mesma versao da base compartilham uma unica leitura e calculo
+  private final SingleFlight<Long, Map<String, List<ProducerInterval>>> minMaxFlight;
 
   @Autowired
   public ProducerIntervalServiceImpl(
-      MovieRepository movieRepository, ProducerIntervalCalculator intervalCalculator) {
+      MovieRepository movieRepository,
+      ProducerIntervalCalculator intervalCalculator,
+      MovieDatasetVersion datasetVersion,
+      MeterRegistry meterRegistry) {
     this.movieRepository = movieRepository;
     this.intervalCalculator = intervalCalculator;
+    this.datasetVersion = datasetVersion;
+    this.minMaxFlight = new SingleFlight<>("producers.intervals", meterRegistry);
   }
 
   @Override
   public Map<String, List<ProducerInterval>> getMinMaxIntervals() {
-    List<Movie> allMovies = movieRepository.findAll();
-    return intervalCalculator.findMinMaxIntervals(allMovies);
+    return minMaxFlight.execute(
+        datasetVersion.current(),
+        () -> {
+          List<Movie> allMovies = movieRepository.findAll();
+          return intervalCalculator.findMinMaxIntervals(allMovies);
+        });
   }
 
   @Override
@@ -0,0 +1,185 @@
+package com.goldenraspberry.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.ProblemDetailDto;
+import com.goldenraspberry.common.util.AdaptiveConcurrencyLimit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Controle de admissao da API publica (/api/v1): limita as requisicoes simultaneas com um limite
+ * adaptativo (AIMD) guiado pela latencia observada e rejeita o excedente imediatamente com 503 e
+ * Retry-After, em vez de deixar a fila e a latencia crescerem sem limite.
+ *
+ * <p>Cada requisicao tem uma prioridade que define a fracao do limite que pode usar: escritas sao
+ * rejeitadas primeiro, depois as demais leituras e por ultimo o calculo de intervalos. O health
+ * check nao passa pelo controle.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+  private static final String API_PREFIX = "/api/v1/";
+  private static final String HEALTH_PATH = "/api/v1/health";
+  private static final String INTERVALS_PATH = "/api/v1/producers/intervals";
+
+  /** Prioridade da requisicao e fracao do limite disponivel para ela */
+  enum Priority {
+    LOW(0.6),
+    NORMAL(0.8),
+    HIGH(1.0);
+
+    private final double share;
+
+    Priority(double share) {
+      this.share = share;
+    }
+  }
+
+  private final boolean enabled;
+  private final long retryAfterSeconds;
+  private final AdaptiveConcurrencyLimit limit;
+  private final ObjectMapper objectMapper;
+  private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+  @Autowired
+  public AdmissionControlFilter(
+      @Value("${app.admission.enabled:true}") boolean enabled,
+      @Value("${app.admission.initial-limit:50}") int initialLimit,
+      @Value("${app.admission.min-limit:8}") int minLimit,
+      @Value("${app.admission.max-limit:500}") int maxLimit,
+      @Value("${app.admission.latency-threshold-ms:250}") long latencyThresholdMs,
+      @Value("${app.admission.backoff-ratio:0.9}") double backoffRatio,
+      @Value("${app.admission.retry-after-seconds:1}") long retryAfterSeconds,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.retryAfterSeconds = retryAfterSeconds;
+    this.objectMapper = objectMapper;
+    this.limit =
+        new AdaptiveConcurrencyLimit(
+            initialLimit, minLimit, maxLimit, Duration.ofMillis(latencyThresholdMs), backoffRatio);
+
+    Gauge.builder("api.admission.limit", limit, AdaptiveConcurrencyLimit::limit)
+        .description("Limite atual de requisicoes simultaneas da API publica")
+        .register(meterRegistry);
+    Gauge.builder("api.admission.in_flight", limit, AdaptiveConcurrencyLimit::inFlight)
+        .description("Requisicoes da API publica em andamento")
+        .register(meterRegistry);
+    for (Priority priority : Priority.values()) {
+      rejected.put(
+          priority,
+          Counter.builder("api.admission.rejected")
+              .description("Requisicoes rejeitadas pelo controle de admissao")
+              .tag("priority", priority.name().toLowerCase())
+              .register(meterRegistry));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String path = pathOf(request);
+    return !enabled || !path.startsWith(API_PREFIX) || path.equals(HEALTH_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Priority priority = priorityOf(request);
+    Optional<AdaptiveConcurrencyLimit.Permit> acquired = limit.tryAcquire(priority.share);
+    if (acquired.isEmpty()) {
+      rejected.get(priority).increment();
+      reject(request, response);
+      return;
+    }
+
+    AdaptiveConcurrencyLimit.Permit permit = acquired.get();
+    boolean async = false;
+    try {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        // Resposta em streaming: a vaga vale ate o fim, mas a duracao nao indica sobrecarga
+        request.getAsyncContext().addListener(new ReleaseOnCompletion(permit));
+        async = true;
+      }
+    } finally {
+      if (!async) {
+        permit.release();
+      }
+    }
+  }
+
+  static Priority priorityOf(HttpServletRequest request) {
+    if (!HttpMethod.GET.matches(request.getMethod())) {
+      return Priority.LOW;
+    }
+    return pathOf(request).equals(INTERVALS_PATH) ? Priority.HIGH : Priority.NORMAL;
+  }
+
+  private static String pathOf(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+    ProblemDetailDto problemDetail =
+        new ProblemDetailDto(
+            "about:blank",
+            "Serviço Sobrecarregado",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Limite de requisições simultâneas atingido, tente novamente em instantes",
+            pathOf(request));
+
+    response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(), problemDetail);
+  }
+
+  private record ReleaseOnCompletion(AdaptiveConcurrencyLimit.Permit permit)
+      implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      permit.releaseWithoutSample();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      permit.releaseWithoutSample();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      permit.releaseWithoutSample();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.goldenraspberry.infrastructure.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Mede os bytes alocados no heap por cada requisicao da API, pela diferenca de {@code
+ * ThreadMXBean.getCurrentThreadAllocatedBytes()} antes e depois do atendimento. Publica o resumo
+ * {@code app.request.allocated.bytes} (tags method e uri); os buckets de SLO configurados por
+ * propriedade servem de orcamento de alocacao por endpoint.
+ *
+ * <p>Com {@code app.allocation.debug-header=true}, a resposta traz {@code X-Allocated-Bytes}: o
+ * cabecalho precisa ser enviado antes do corpo, entao conta a alocacao ate o inicio da escrita da
+ * resposta (sem a serializacao), enquanto o resumo conta a requisicao inteira.
+ *
+ * <p>A contagem e por thread: respostas assincronas (cargas e streaming) e requisicoes em virtual
+ * threads, para as quais a JVM nao informa a alocacao, nao sao registradas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 15)
+public class AllocationMetricsFilter extends OncePerRequestFilter {
+
+  static final String SUMMARY_NAME = "app.request.allocated.bytes";
+  static final String DEBUG_HEADER = "X-Allocated-Bytes";
+  private static final String API_PREFIX = "/api/";
+
+  private final com.sun.management.ThreadMXBean threadMXBean;
+  private final boolean enabled;
+  private final boolean debugHeader;
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public AllocationMetricsFilter(
+      @Value("${app.allocation.enabled:true}") boolean enabled,
+      @Value("${app.allocation.debug-header:false}") boolean debugHeader,
+      MeterRegistry meterRegistry) {
+    this.threadMXBean =
+        ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()
+                && bean.isThreadAllocatedMemoryEnabled()
+            ? bean
+            : null;
+    this.enabled = enabled && threadMXBean != null;
+    this.debugHeader = debugHeader;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !enabled
+        || Thread.currentThread().isVirtual()
+        || !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long before = threadMXBean.getCurrentThreadAllocatedBytes();
+    HttpServletResponse target =
+        debugHeader ? new AllocationHeaderResponse(response, before) : response;
+    try {
+      filterChain.doFilter(request, target);
+    } finally {
+      if (!request.isAsyncStarted()) {
+        record(request, threadMXBean.getCurrentThreadAllocatedBytes() - before);
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, long allocatedBytes) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    DistributionSummary.builder(SUMMARY_NAME)
+        .description("Bytes alocados no heap por requisicao")
+        .baseUnit("bytes")
+        .tag("method", request.getMethod())
+        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+        .register(meterRegistry)
+        .record(allocatedBytes);
+  }
+
+  /** Adiciona o cabecalho de depuracao antes da primeira escrita do corpo */
+  private final class AllocationHeaderResponse extends HttpServletResponseWrapper {
+
+    private final long before;
+    private boolean headerWritten;
+
+    private AllocationHeaderResponse(HttpServletResponse response, long before) {
+      super(response);
+      this.before = before;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+      writeHeader();
+      return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+      writeHeader();
+      return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+      writeHeader();
+      super.flushBuffer();
+    }
+
+    private void writeHeader() {
+      if (!headerWritten && !isCommitted()) {
+        headerWritten = true;
+        setHeader(
+            DEBUG_HEADER, Long.toString(threadMXBean.getCurrentThreadAllocatedBytes() - before));
+      }
+    }
+  }
+}
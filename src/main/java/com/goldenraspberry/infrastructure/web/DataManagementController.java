@@ -1,10 +1,16 @@
 package com.goldenraspberry.infrastructure.web;
 
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.util.SingleFlight;
 import com.goldenraspberry.domain.model.Movie;
 import com.goldenraspberry.infrastructure.csv.MovieCsvLoader;
-import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
-import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
+import com.goldenraspberry.infrastructure.persistence.MovieDatasetVersion;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumnStore;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumns;
 import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import com.goldenraspberry.infrastructure.service.ImportBulkhead;
+import com.goldenraspberry.infrastructure.service.MovieImportService;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,15 +18,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -36,21 +47,35 @@ public class DataManagementController {
   private static final Logger logger = LoggerFactory.getLogger(DataManagementController.class);
 
   private final MovieCsvLoader csvLoader;
-  private final MovieEntityMapper entityMapper;
   private final MovieJpaRepository movieRepository;
+  private final MovieDatasetVersion datasetVersion;
+  private final MovieImportService importService;
+  private final ImportBulkhead importBulkhead;
+  private final MovieColumnStore columnStore;
+  // Requisicoes concorrentes na mesma versao da base compartilham um unico calculo de estatisticas
+  private final SingleFlight<Long, Map<String, Object>> statsFlight;
 
   @Autowired
   public DataManagementController(
       MovieCsvLoader csvLoader,
-      MovieEntityMapper entityMapper,
-      MovieJpaRepository movieRepository) {
+      MovieJpaRepository movieRepository,
+      MovieDatasetVersion datasetVersion,
+      MovieImportService importService,
+      ImportBulkhead importBulkhead,
+      MovieColumnStore columnStore,
+      MeterRegistry meterRegistry) {
     this.csvLoader = csvLoader;
-    this.entityMapper = entityMapper;
     this.movieRepository = movieRepository;
+    this.datasetVersion = datasetVersion;
+    this.importService = importService;
+    this.importBulkhead = importBulkhead;
+    this.columnStore = columnStore;
+    this.statsFlight = new SingleFlight<>("data.stats", meterRegistry);
   }
 
   /**
-   * Upload de arquivo CSV e recarregamento dos dados
+   * Upload de arquivo CSV e recarregamento dos dados. O arquivo e lido na requisicao; a carga na
+   * base executa no bulkhead de cargas, liberando a thread do Tomcat para a API publica.
    *
    * @param file Arquivo CSV com dados de filmes
    * @return Resultado do carregamento
@@ -75,10 +100,17 @@ public class DataManagementController {
         @ApiResponse(
             responseCode = "500",
             description = "Erro interno do servidor",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de cargas cheia; tente novamente após Retry-After",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(
+            responseCode = "504",
+            description = "Carga abandonada: prazo da requisição expirado",
             content = @Content(mediaType = "application/json"))
       })
-  @Transactional
-  public ResponseEntity<Map<String, Object>> uploadCsv(
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> uploadCsv(
       @Parameter(description = "Arquivo CSV com dados de filmes") @RequestParam("file")
           MultipartFile file) {
 
@@ -90,62 +122,61 @@ public class DataManagementController {
     try {
       // Validacoes basicas
       if (file.isEmpty()) {
-        return ResponseEntity.badRequest()
-            .body(createErrorResponse("Arquivo não pode estar vazio"));
+        return completed(
+            ResponseEntity.badRequest().body(createErrorResponse("Arquivo não pode estar vazio")));
       }
 
       String filename = file.getOriginalFilename();
       if (filename == null || !filename.toLowerCase().endsWith(".csv")) {
-        return ResponseEntity.badRequest()
-            .body(createErrorResponse("Arquivo deve ter extensão .csv"));
+        return completed(
+            ResponseEntity.badRequest()
+                .body(createErrorResponse("Arquivo deve ter extensão .csv")));
       }
 
       // Carrega filmes do CSV
       List<Movie> movies = csvLoader.loadMoviesFromUpload(file);
 
       if (movies.isEmpty()) {
-        return ResponseEntity.badRequest()
-            .body(createErrorResponse("Nenhum filme válido encontrado no CSV"));
+        return completed(
+            ResponseEntity.badRequest()
+                .body(createErrorResponse("Nenhum filme válido encontrado no CSV")));
       }
 
-      // Limpa dados existentes e salva novos
-      logger.info("Limpando dados existentes...");
-      movieRepository.deleteAll();
-
-      logger.info("Salvando {} novos filmes...", movies.size());
-      List<MovieJpaEntity> entities = entityMapper.toEntityList(movies);
-      movieRepository.saveAll(entities);
-
-      // Estatisticas finais
-      long totalMovies = movieRepository.count();
-      long winnerMovies = movieRepository.countByWinnerTrue();
-
-      Map<String, Object> response = new HashMap<>();
-      response.put("success", true);
-      response.put("message", "CSV carregado com sucesso");
-      response.put("filename", filename);
-      response.put("totalMovies", totalMovies);
-      response.put("winnerMovies", winnerMovies);
-      response.put("nonWinnerMovies", totalMovies - winnerMovies);
+      return importBulkhead
+          .submit(() -> importService.replaceAll(movies))
+          .thenApply(
+              result -> {
+                Map<String, Object> response =
+                    createImportResponse("CSV carregado com sucesso", result);
+                response.put("filename", filename);
 
-      logger.info(
-          "Upload concluído: {} filmes carregados ({} vencedores)", totalMovies, winnerMovies);
-
-      return ResponseEntity.ok(response);
+                logger.info(
+                    "Upload concluído: {} filmes carregados ({} vencedores)",
+                    result.totalMovies(),
+                    result.winnerMovies());
+                return ResponseEntity.ok(response);
+              })
+          .exceptionally(e -> importFailed("Erro interno: ", e));
 
+    } catch (RejectedExecutionException e) {
+      return completed(importQueueFull());
+    } catch (DeadlineExceededException e) {
+      return completed(importAbandoned(e));
     } catch (MovieCsvLoader.MovieCsvLoadException e) {
       logger.error("Erro ao processar CSV: {}", e.getMessage());
-      return ResponseEntity.badRequest()
-          .body(createErrorResponse("Erro no formato do CSV: " + e.getMessage()));
+      return completed(
+          ResponseEntity.badRequest()
+              .body(createErrorResponse("Erro no formato do CSV: " + e.getMessage())));
     } catch (Exception e) {
       logger.error("Erro inesperado no upload: {}", e.getMessage(), e);
-      return ResponseEntity.internalServerError()
-          .body(createErrorResponse("Erro interno: " + e.getMessage()));
+      return completed(
+          ResponseEntity.internalServerError()
+              .body(createErrorResponse("Erro interno: " + e.getMessage())));
     }
   }
 
   /**
-   * Recarrega dados do CSV padrao configurado
+   * Recarrega dados do CSV padrao configurado, no bulkhead de cargas
    *
    * @return Resultado do recarregamento
    */
@@ -165,46 +196,42 @@ public class DataManagementController {
         @ApiResponse(
             responseCode = "500",
             description = "Erro interno do servidor",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Fila de cargas cheia; tente novamente após Retry-After",
+            content = @Content(mediaType = "application/json")),
+        @ApiResponse(
+            responseCode = "504",
+            description = "Carga abandonada: prazo da requisição expirado",
             content = @Content(mediaType = "application/json"))
       })
-  @Transactional
-  public ResponseEntity<Map<String, Object>> reloadData() {
+  public CompletableFuture<ResponseEntity<Map<String, Object>>> reloadData() {
     logger.info("Iniciando recarregamento de dados do CSV padrão...");
 
     try {
-      // Carrega filmes do CSV padrao
-      List<Movie> movies = csvLoader.loadMovies();
-
-      // Limpa dados existentes e salva novos
-      logger.info("Limpando dados existentes...");
-      movieRepository.deleteAll();
-
-      logger.info("Salvando {} filmes do CSV padrão...", movies.size());
-      List<MovieJpaEntity> entities = entityMapper.toEntityList(movies);
-      movieRepository.saveAll(entities);
+      return importBulkhead
+          .submit(
+              () -> {
+                try {
+                  return importService.replaceAll(csvLoader.loadMovies());
+                } catch (MovieCsvLoader.MovieCsvLoadException e) {
+                  throw new CompletionException(e);
+                }
+              })
+          .thenApply(
+              result -> {
+                logger.info(
+                    "Recarregamento concluído: {} filmes carregados ({} vencedores)",
+                    result.totalMovies(),
+                    result.winnerMovies());
+                return ResponseEntity.ok(
+                    createImportResponse("Dados recarregados com sucesso", result));
+              })
+          .exceptionally(e -> importFailed("Erro no recarregamento: ", e));
 
-      // Estatisticas finais
-      long totalMovies = movieRepository.count();
-      long winnerMovies = movieRepository.countByWinnerTrue();
-
-      Map<String, Object> response = new HashMap<>();
-      response.put("success", true);
-      response.put("message", "Dados recarregados com sucesso");
-      response.put("totalMovies", totalMovies);
-      response.put("winnerMovies", winnerMovies);
-      response.put("nonWinnerMovies", totalMovies - winnerMovies);
-
-      logger.info(
-          "Recarregamento concluído: {} filmes carregados ({} vencedores)",
-          totalMovies,
-          winnerMovies);
-
-      return ResponseEntity.ok(response);
-
-    } catch (Exception e) {
-      logger.error("Erro no recarregamento: {}", e.getMessage(), e);
-      return ResponseEntity.internalServerError()
-          .body(createErrorResponse("Erro no recarregamento: " + e.getMessage()));
+    } catch (RejectedExecutionException e) {
+      return completed(importQueueFull());
     }
   }
 
@@ -228,10 +255,39 @@ public class DataManagementController {
                     schema = @Schema(implementation = Map.class)))
       })
   public ResponseEntity<Map<String, Object>> getStats() {
+    return ResponseEntity.ok(statsFlight.execute(datasetVersion.current(), this::computeStats));
+  }
+
+  /**
+   * Calcula as estatisticas da base atual
+   *
+   * @return Mapa somente leitura com as estatisticas
+   */
+  private Map<String, Object> computeStats() {
+    if (columnStore.isEnabled()) {
+      return computeColumnarStats(columnStore.columns());
+    }
     long totalMovies = movieRepository.count();
     long winnerMovies = movieRepository.countByWinnerTrue();
     List<Integer> winnerYears = movieRepository.findDistinctYearsByWinnerTrueOrderByYear();
 
+    return toStats(totalMovies, winnerMovies, winnerYears);
+  }
+
+  /**
+   * Calcula as estatisticas sobre a copia colunar: contagens pelo bitset de vencedores e anos pela
+   * faixa min/max da coluna de anos, sem consultas ao banco
+   *
+   * @param columns Copia colunar da versao atual
+   * @return Mapa somente leitura com as estatisticas
+   */
+  private Map<String, Object> computeColumnarStats(MovieColumns columns) {
+    long[] winners = columns.selectWinners();
+    return toStats(columns.size(), MovieColumns.count(winners), columns.distinctYears(winners));
+  }
+
+  private static Map<String, Object> toStats(
+      long totalMovies, long winnerMovies, List<Integer> winnerYears) {
     Map<String, Object> stats = new HashMap<>();
     stats.put("totalMovies", totalMovies);
     stats.put("winnerMovies", winnerMovies);
@@ -243,7 +299,74 @@ public class DataManagementController {
             ? null
             : Map.of("min", winnerYears.get(0), "max", winnerYears.get(winnerYears.size() - 1)));
 
-    return ResponseEntity.ok(stats);
+    return Collections.unmodifiableMap(stats);
+  }
+
+  /**
+   * Cria resposta de sucesso de uma carga
+   *
+   * @param message Mensagem de sucesso
+   * @param result Totais da base apos a carga
+   * @return Mapa com os totais
+   */
+  private Map<String, Object> createImportResponse(
+      String message, MovieImportService.ImportResult result) {
+    Map<String, Object> response = new HashMap<>();
+    response.put("success", true);
+    response.put("message", message);
+    response.put("totalMovies", result.totalMovies());
+    response.put("winnerMovies", result.winnerMovies());
+    response.put("nonWinnerMovies", result.totalMovies() - result.winnerMovies());
+    response.put("duplicatesSkipped", result.duplicatesSkipped());
+    return response;
+  }
+
+  /**
+   * Resposta para carga que falhou durante a execucao no bulkhead
+   *
+   * @param prefix Prefixo da mensagem de erro
+   * @param failure Falha (possivelmente encapsulada em CompletionException)
+   * @return Resposta 500 com o erro, ou 504 se a carga foi abandonada
+   */
+  private ResponseEntity<Map<String, Object>> importFailed(String prefix, Throwable failure) {
+    Throwable cause =
+        failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+    if (cause instanceof DeadlineExceededException abandoned) {
+      return importAbandoned(abandoned);
+    }
+    logger.error("Erro na carga: {}", cause.getMessage(), cause);
+    return ResponseEntity.internalServerError()
+        .body(createErrorResponse(prefix + cause.getMessage()));
+  }
+
+  /**
+   * Resposta para carga rejeitada por fila cheia
+   *
+   * @return Resposta 503 com Retry-After
+   */
+  private ResponseEntity<Map<String, Object>> importQueueFull() {
+    logger.warn("Carga rejeitada: fila de cargas cheia");
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, String.valueOf(importBulkhead.retryAfterSeconds()))
+        .body(createErrorResponse("Fila de cargas cheia; tente novamente mais tarde"));
+  }
+
+  /**
+   * Resposta para carga abandonada pelo prazo da requisicao ou por desconexao do cliente
+   *
+   * @param e Motivo do abandono
+   * @return Resposta 504 com o erro
+   */
+  private ResponseEntity<Map<String, Object>> importAbandoned(DeadlineExceededException e) {
+    logger.warn("Carga abandonada: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT)
+        .body(createErrorResponse(e.getMessage()));
+  }
+
+  private static <T> CompletableFuture<T> completed(T value) {
+    return CompletableFuture.completedFuture(value);
   }
 
   /**
@@ -1,10 +1,19 @@
 package com.goldenraspberry.infrastructure.web;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.goldenraspberry.application.dto.BatchResultDto;
+import com.goldenraspberry.application.dto.CursorPageResponseDto;
+import com.goldenraspberry.application.dto.MovieBatchUpdateItemDto;
 import com.goldenraspberry.application.dto.MovieDto;
 import com.goldenraspberry.application.dto.MovieInputDto;
 import com.goldenraspberry.application.dto.PagedResponseDto;
 import com.goldenraspberry.application.dto.ProducerIntervalResponseDto;
 import com.goldenraspberry.application.service.MovieApplicationService;
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.util.Deadline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,11 +23,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
@@ -30,11 +42,21 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 @Tag(name = "Movies", description = "Operações relacionadas a filmes do Golden Raspberry Awards")
 public class MovieController {
 
+  // Quantidade de filmes escritos entre cada envio parcial da resposta em streaming
+  private static final int STREAM_FLUSH_INTERVAL = 256;
+
   private final MovieApplicationService movieApplicationService;
+  private final ObjectWriter ndjsonWriter;
 
   @Autowired
-  public MovieController(MovieApplicationService movieApplicationService) {
+  public MovieController(
+      MovieApplicationService movieApplicationService, ObjectMapper objectMapper) {
     this.movieApplicationService = movieApplicationService;
+    this.ndjsonWriter =
+        objectMapper
+            .writerFor(MovieDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator((String) null);
   }
 
   /**
@@ -76,11 +98,13 @@ public class MovieController {
 
   /**
    * Obter todos os filmes GET /api/v1/movies Suporta paginação através dos parâmetros page, size e
-   * sort
+   * sort, ou paginação por cursor (keyset) através do parâmetro cursor
    *
    * @param page Número da página (padrão: 0)
    * @param size Tamanho da página (padrão: 20)
    * @param sort Campo para ordenação (padrão: id)
+   * @param cursor Token da próxima página; vazio inicia a paginação por cursor
+   * @param includeTotal Se a paginação por cursor deve informar o total de elementos
    * @return Lista paginada de filmes ou lista completa se não houver parâmetros de paginação
    */
   @GetMapping("/movies")
@@ -88,7 +112,9 @@ public class MovieController {
       summary = "Listar todos os filmes",
       description =
           "Retorna a lista completa de todos os filmes carregados do arquivo CSV. Suporta paginação"
-              + " através dos parâmetros page, size e sort.")
+              + " através dos parâmetros page, size e sort. Para percorrer o catálogo inteiro,"
+              + " use cursor (vazio na primeira página, depois o next_cursor retornado): cada"
+              + " página é buscada pela chave da anterior, com custo constante e sem contagem.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -107,12 +133,26 @@ public class MovieController {
       @Parameter(description = "Número da página (baseado em zero)", example = "0")
           @RequestParam(value = "page", required = false)
           Integer page,
-      @Parameter(description = "Tamanho da página", example = "10")
+      @Parameter(description = "Tamanho da página (padrão: 10; com cursor, 20)", example = "10")
           @RequestParam(value = "size", required = false)
           Integer size,
       @Parameter(description = "Campo para ordenação", example = "id")
           @RequestParam(value = "sort", required = false, defaultValue = "id")
-          String sort) {
+          String sort,
+      @Parameter(description = "Cursor da próxima página (vazio para a primeira página)")
+          @RequestParam(value = "cursor", required = false)
+          String cursor,
+      @Parameter(description = "Informar o total de elementos na paginação por cursor")
+          @RequestParam(value = "includeTotal", required = false, defaultValue = "false")
+          boolean includeTotal) {
+
+    // Com cursor, usa paginação por keyset
+    if (cursor != null) {
+      // Sem size, vale o padrao da paginacao por cursor (20)
+      CursorPageResponseDto<MovieDto> cursorPage =
+          movieApplicationService.getMoviesByCursor(cursor, size, sort, includeTotal);
+      return ResponseEntity.ok(cursorPage);
+    }
 
     // Se não há parâmetros de paginação, retorna lista completa (comportamento original)
     if (page == null && size == null) {
@@ -129,6 +169,56 @@ public class MovieController {
     return ResponseEntity.ok(pagedMovies);
   }
 
+  /**
+   * Obter todos os filmes em streaming GET /api/v1/movies com Accept: application/x-ndjson Cada
+   * filme e escrito em uma linha JSON assim que e lido do banco, sem montar a lista completa
+   *
+   * @return Corpo da resposta escrito de forma incremental
+   */
+  @GetMapping(value = "/movies", produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(
+      summary = "Listar todos os filmes em streaming (NDJSON)",
+      description =
+          "Retorna todos os filmes, um objeto JSON por linha, ordenados por ID. Os filmes são lidos"
+              + " do banco por cursor e enviados à medida que são lidos, com memória constante"
+              + " por requisição.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Filmes enviados em streaming",
+            content =
+                @Content(
+                    mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = MovieDto.class)))
+      })
+  public ResponseEntity<StreamingResponseBody> streamAllMovies() {
+    // O corpo e escrito em outra thread: o prazo da requisicao e levado junto
+    Deadline deadline = Deadline.current();
+    StreamingResponseBody body =
+        outputStream -> {
+          try (Deadline.Scope scope = deadline.bind();
+              JsonGenerator generator = ndjsonWriter.createGenerator(outputStream)) {
+            int[] written = {0};
+            movieApplicationService.streamAllMovies(
+                movie -> {
+                  try {
+                    ndjsonWriter.writeValue(generator, movie);
+                    generator.writeRaw('\n');
+                    // Envia o primeiro filme imediatamente e depois em blocos
+                    if (written[0]++ % STREAM_FLUSH_INTERVAL == 0) {
+                      generator.flush();
+                    }
+                  } catch (IOException e) {
+                    // Falha de escrita: o cliente desconectou, a leitura do banco e interrompida
+                    throw deadline.abandon(DeadlineExceededException.Reason.CLIENT_DISCONNECTED);
+                  }
+                });
+          }
+        };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+
   /**
    * Obter apenas filmes vencedores GET /api/v1/movies/winners
    *
@@ -319,4 +409,101 @@ public class MovieController {
     movieApplicationService.deleteMovie(id);
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * Criar filmes em lote POST /api/v1/movies/batch
+   *
+   * @param movieInputDtos Dados dos filmes a serem criados
+   * @return Resultado de cada item do lote
+   */
+  @PostMapping("/movies/batch")
+  @Operation(
+      summary = "Criar filmes em lote",
+      description =
+          "Cria até 1000 filmes em uma única transação. A unicidade de título e ano é verificada"
+              + " para o lote inteiro de uma vez; itens inválidos ou duplicados são reportados"
+              + " individualmente sem impedir a gravação dos demais.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; o resultado de cada item está em results",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BatchResultDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vazio ou maior que o limite",
+            content = @Content(mediaType = "application/json"))
+      })
+  public ResponseEntity<BatchResultDto> createMovies(
+      @RequestBody List<MovieInputDto> movieInputDtos) {
+    BatchResultDto result = movieApplicationService.createMovies(movieInputDtos);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * Atualizar filmes em lote PATCH /api/v1/movies/batch
+   *
+   * @param items ID e novos dados de cada filme
+   * @return Resultado de cada item do lote
+   */
+  @PatchMapping("/movies/batch")
+  @Operation(
+      summary = "Atualizar filmes em lote",
+      description =
+          "Atualiza até 1000 filmes, identificados pelo campo id de cada item, em uma única"
+              + " transação. Itens inexistentes, inválidos ou que conflitam com outro filme são"
+              + " reportados individualmente.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; o resultado de cada item está em results",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BatchResultDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vazio ou maior que o limite",
+            content = @Content(mediaType = "application/json"))
+      })
+  public ResponseEntity<BatchResultDto> updateMovies(
+      @RequestBody List<MovieBatchUpdateItemDto> items) {
+    BatchResultDto result = movieApplicationService.updateMovies(items);
+    return ResponseEntity.ok(result);
+  }
+
+  /**
+   * Deletar filmes em lote DELETE /api/v1/movies/batch
+   *
+   * @param ids IDs dos filmes a serem deletados
+   * @return Resultado de cada item do lote
+   */
+  @DeleteMapping("/movies/batch")
+  @Operation(
+      summary = "Deletar filmes em lote",
+      description =
+          "Remove até 1000 filmes pelos IDs informados com um único comando. IDs inexistentes ou"
+              + " repetidos são reportados individualmente.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lote processado; o resultado de cada item está em results",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BatchResultDto.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Lote vazio ou maior que o limite",
+            content = @Content(mediaType = "application/json"))
+      })
+  public ResponseEntity<BatchResultDto> deleteMovies(@RequestBody List<Long> ids) {
+    BatchResultDto result = movieApplicationService.deleteMovies(ids);
+    return ResponseEntity.ok(result);
+  }
 }
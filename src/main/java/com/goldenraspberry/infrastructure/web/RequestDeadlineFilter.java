@@ -0,0 +1,191 @@
+package com.goldenraspberry.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.ProblemDetailDto;
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.exception.DeadlineExceededException.Reason;
+import com.goldenraspberry.common.util.Deadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Associa um {@link Deadline} a cada requisicao da API (/api). O prazo vem do cabecalho {@code
+ * X-Request-Timeout} (milissegundos a partir da chegada) ou {@code X-Request-Deadline} (instante
+ * ISO-8601 ou epoch em milissegundos); com os dois, vale o menor. Sem cabecalho, o prazo so termina
+ * se o cliente desconectar.
+ *
+ * <p>Calculos de intervalos, leitura de CSV, cargas e respostas em streaming verificam o prazo e
+ * abandonam o trabalho quando ele expira. A desconexao do cliente e detectada em respostas
+ * assincronas (streaming e cargas): por erro de escrita ou pelo container. O trabalho abandonado e
+ * contado em {@code requests.cancelled}, por motivo.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+  static final String TIMEOUT_HEADER = "X-Request-Timeout";
+  static final String DEADLINE_HEADER = "X-Request-Deadline";
+  private static final String API_PREFIX = "/api/";
+
+  private final ObjectMapper objectMapper;
+  private final Map<Reason, Counter> cancelled = new EnumMap<>(Reason.class);
+
+  @Autowired
+  public RequestDeadlineFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.objectMapper = objectMapper;
+    for (Reason reason : Reason.values()) {
+      cancelled.put(
+          reason,
+          Counter.builder("requests.cancelled")
+              .description("Trabalho abandonado por prazo expirado ou cliente desconectado")
+              .tag("reason", reason.name().toLowerCase())
+              .register(meterRegistry));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !pathOf(request).startsWith(API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Duration timeout;
+    try {
+      timeout = parseTimeout(request);
+    } catch (IllegalArgumentException e) {
+      writeProblem(
+          request, response, HttpStatus.BAD_REQUEST, "Requisição Inválida", e.getMessage());
+      return;
+    }
+
+    Deadline deadline =
+        timeout != null
+            ? Deadline.after(timeout, reason -> cancelled.get(reason).increment())
+            : Deadline.unbounded(reason -> cancelled.get(reason).increment());
+    try {
+      deadline.check();
+    } catch (DeadlineExceededException e) {
+      writeProblem(request, response, HttpStatus.GATEWAY_TIMEOUT, "Prazo Esgotado", e.getMessage());
+      return;
+    }
+
+    try (Deadline.Scope scope = deadline.bind()) {
+      filterChain.doFilter(request, response);
+      if (request.isAsyncStarted()) {
+        request.getAsyncContext().addListener(new CancelOnFailure(deadline));
+      }
+    }
+  }
+
+  /**
+   * Le o prazo dos cabecalhos
+   *
+   * @param request Requisicao
+   * @return Tempo restante ate o prazo, ou null se nenhum cabecalho foi informado
+   * @throws IllegalArgumentException se um cabecalho for invalido
+   */
+  static Duration parseTimeout(HttpServletRequest request) {
+    Duration timeout = null;
+
+    String timeoutHeader = request.getHeader(TIMEOUT_HEADER);
+    if (timeoutHeader != null) {
+      try {
+        long millis = Long.parseLong(timeoutHeader.trim());
+        if (millis < 0) {
+          throw new NumberFormatException();
+        }
+        timeout = Duration.ofMillis(millis);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            TIMEOUT_HEADER + " deve ser um número de milissegundos não negativo");
+      }
+    }
+
+    String deadlineHeader = request.getHeader(DEADLINE_HEADER);
+    if (deadlineHeader != null) {
+      Duration untilDeadline = Duration.between(Instant.now(), parseInstant(deadlineHeader.trim()));
+      if (untilDeadline.isNegative()) {
+        untilDeadline = Duration.ZERO;
+      }
+      if (timeout == null || untilDeadline.compareTo(timeout) < 0) {
+        timeout = untilDeadline;
+      }
+    }
+    return timeout;
+  }
+
+  private static Instant parseInstant(String value) {
+    try {
+      return value.chars().allMatch(Character::isDigit)
+          ? Instant.ofEpochMilli(Long.parseLong(value))
+          : Instant.parse(value);
+    } catch (NumberFormatException | DateTimeException e) {
+      throw new IllegalArgumentException(
+          DEADLINE_HEADER + " deve ser um instante ISO-8601 ou epoch em milissegundos");
+    }
+  }
+
+  private static String pathOf(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  private void writeProblem(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      HttpStatus status,
+      String title,
+      String detail)
+      throws IOException {
+    ProblemDetailDto problemDetail =
+        new ProblemDetailDto("about:blank", title, status.value(), detail, pathOf(request));
+
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    objectMapper.writeValue(response.getOutputStream(), problemDetail);
+  }
+
+  /** Cancela o prazo quando a resposta assincrona falha (cliente desconectado) ou expira */
+  private record CancelOnFailure(Deadline deadline) implements AsyncListener {
+
+    @Override
+    public void onComplete(AsyncEvent event) {}
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      deadline.cancel();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      deadline.cancel();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      event.getAsyncContext().addListener(this);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.goldenraspberry.infrastructure.web;
+
+import com.goldenraspberry.infrastructure.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Registra quantos comandos SQL cada requisicao da API executou, no resumo {@code
+ * app.request.sql.statements} (tags method e uri, com o padrao da rota). Um aumento na media de um
+ * endpoint indica N+1, insercoes linha a linha ou leituras da tabela inteira.
+ *
+ * <p>Conta apenas os comandos da thread da requisicao: respostas assincronas (cargas e streaming)
+ * executam o acesso ao banco em outra thread e nao sao registradas.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+  static final String SUMMARY_NAME = "app.request.sql.statements";
+  private static final String API_PREFIX = "/api/";
+
+  private final MeterRegistry meterRegistry;
+
+  @Autowired
+  public SqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith(request.getContextPath() + API_PREFIX);
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    long before = SqlStatementCounter.current();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      if (!request.isAsyncStarted()) {
+        record(request, SqlStatementCounter.current() - before);
+      }
+    }
+  }
+
+  private void record(HttpServletRequest request, long statements) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    DistributionSummary.builder(SUMMARY_NAME)
+        .description("Comandos SQL executados por requisicao")
+        .baseUnit("statements")
+        .tag("method", request.getMethod())
+        .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+        .register(meterRegistry)
+        .record(statements);
+  }
+}
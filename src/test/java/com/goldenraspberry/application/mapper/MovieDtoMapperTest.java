@@ -0,0 +1,49 @@
+package com.goldenraspberry.application.mapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.Year;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Testes para MovieDtoMapper */
+class MovieDtoMapperTest {
+
+  @Test
+  void shouldCopyAllFieldsKeepingProducerOrder() {
+    Movie movie =
+        new Movie(
+            7L,
+            Year.of(1984),
+            "Bolero",
+            "Cannon Films",
+            List.of(Producer.of("Bo Derek"), Producer.of("Menahem Golan")),
+            true);
+
+    MovieDto dto = MovieDtoMapper.toDto(movie);
+
+    assertEquals(7L, dto.getId());
+    assertEquals(1984, dto.getYear());
+    assertEquals("Bolero", dto.getTitle());
+    assertEquals("Cannon Films", dto.getStudios());
+    assertEquals(List.of("Bo Derek", "Menahem Golan"), dto.getProducers());
+    assertTrue(dto.getWinner());
+    assertThrows(UnsupportedOperationException.class, () -> dto.getProducers().add("Outro"));
+  }
+
+  @Test
+  void shouldConvertListsInOrder() {
+    Movie first = new Movie(1L, Year.of(1980), "A", null, List.of(Producer.of("P1")), false);
+    Movie second = new Movie(2L, Year.of(1981), "B", "S", List.of(Producer.of("P2")), true);
+
+    List<MovieDto> dtos = MovieDtoMapper.toDtoList(List.of(first, second));
+
+    assertEquals(List.of(1L, 2L), dtos.stream().map(MovieDto::getId).toList());
+    assertNull(dtos.get(0).getStudios());
+    assertFalse(dtos.get(0).getWinner());
+    assertTrue(MovieDtoMapper.toDtoList(List.of()).isEmpty());
+  }
+}
@@ -0,0 +1,259 @@
+package com.goldenraspberry.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.common.exception.BusinessException;
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.util.Deadline;
+import com.goldenraspberry.infrastructure.persistence.MovieCacheEvictor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Testes de integração para o agrupamento de escritas concorrentes (group commit). Usa banco
+ * proprio, pois o contexto com o agrupamento habilitado nao e compartilhado com os demais testes, e
+ * limpa o cache de segundo nivel, que e compartilhado por todos os contextos da JVM.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "app.writes.group-commit.enabled=true",
+      "app.writes.group-commit.max-wait-ms=20",
+      "spring.datasource.url=jdbc:h2:mem:groupcommitdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+    })
+class MovieWriteCoalescerTest {
+
+  private static final int WRITERS = 32;
+
+  @Autowired private MovieApplicationService movieApplicationService;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private MovieCacheEvictor cacheEvictor;
+
+  @BeforeEach
+  @AfterEach
+  void evictSecondLevelCache() {
+    cacheEvictor.evictAll();
+  }
+
+  @Test
+  void shouldCommitConcurrentCreatesTogetherAndReturnIndividualResults() throws Exception {
+    DistributionSummary batchSizes =
+        meterRegistry.get("movies.writes.group_commit.batch_size").summary();
+    long commitsBefore = batchSizes.count();
+
+    List<Object> results =
+        runConcurrently(
+            i -> {
+              // Dois escritores disputam o mesmo titulo e ano: apenas um deve ser criado
+              String title = i == WRITERS - 1 ? "Group Commit Movie 0" : "Group Commit Movie " + i;
+              return movieApplicationService.createMovie(
+                  new MovieInputDto(1990, title, "Studio", List.of("Producer " + i), false));
+            });
+
+    List<MovieDto> created = new ArrayList<>();
+    List<BusinessException> failed = new ArrayList<>();
+    for (Object result : results) {
+      if (result instanceof MovieDto movie) {
+        created.add(movie);
+      } else {
+        failed.add(assertInstanceOf(BusinessException.class, result));
+      }
+    }
+
+    assertEquals(WRITERS - 1, created.size());
+    assertEquals(1, failed.size());
+    assertTrue(failed.get(0).getMessage().contains("Já existe um filme"));
+    assertEquals(WRITERS - 1, created.stream().map(MovieDto::getId).distinct().count());
+    for (MovieDto movie : created) {
+      assertEquals(
+          movie.getTitle(), movieApplicationService.getMovieById(movie.getId()).getTitle());
+    }
+
+    // Menos commits que escritas: as criacoes concorrentes foram agrupadas
+    assertTrue(batchSizes.count() - commitsBefore < WRITERS);
+    assertTrue(batchSizes.max() > 1);
+
+    // Remocoes concorrentes tambem sao agrupadas, com erro individual para ID inexistente
+    List<Object> deletions =
+        runConcurrently(
+            i -> {
+              Long id = i < created.size() ? created.get(i).getId() : Long.MAX_VALUE;
+              movieApplicationService.deleteMovie(id);
+              return id;
+            });
+    assertEquals(WRITERS - 1, deletions.stream().filter(result -> result instanceof Long).count());
+    assertInstanceOf(BusinessException.class, deletions.get(WRITERS - 1));
+  }
+
+  @Test
+  void shouldDeliverErrorsToCallerAndKeepDraining() {
+    MovieWriteCoalescer coalescer = standaloneCoalescer();
+    try {
+      AssertionError error =
+          assertThrows(
+              AssertionError.class,
+              () ->
+                  coalescer.execute(
+                      () -> {
+                        throw new AssertionError("falha na escrita");
+                      }));
+      assertEquals("falha na escrita", error.getMessage());
+
+      assertEquals("ok", coalescer.execute(() -> "ok"));
+    } finally {
+      coalescer.shutdown();
+    }
+  }
+
+  @Test
+  void shouldDiscardQueuedWriteWhenCallerDeadlineExpires() throws Exception {
+    MovieWriteCoalescer coalescer = standaloneCoalescer();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Object> blocking =
+          executor.submit(() -> coalescer.execute(() -> block(started, release)));
+      started.await();
+
+      AtomicInteger executed = new AtomicInteger();
+      Deadline deadline = Deadline.after(Duration.ofMillis(50), reason -> {});
+      assertThrows(
+          DeadlineExceededException.class,
+          () -> deadline.call(() -> coalescer.execute(executed::incrementAndGet)));
+
+      release.countDown();
+      assertEquals("liberada", blocking.get());
+      assertEquals("ok", coalescer.execute(() -> "ok"));
+      assertEquals(0, executed.get());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+      coalescer.shutdown();
+    }
+  }
+
+  @Test
+  void shouldFailQueuedAndLateWritesOnShutdown() throws Exception {
+    MovieWriteCoalescer coalescer = standaloneCoalescer();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Object> blocking =
+          executor.submit(() -> coalescer.execute(() -> block(started, release)));
+      started.await();
+      Future<Object> queued = executor.submit(() -> coalescer.execute(() -> "nunca"));
+      // Da tempo para a segunda escrita entrar na fila
+      Thread.sleep(50);
+
+      coalescer.shutdown();
+
+      Exception queuedFailure = assertThrows(Exception.class, queued::get);
+      assertInstanceOf(IllegalStateException.class, queuedFailure.getCause());
+      assertThrows(IllegalStateException.class, () -> coalescer.execute(() -> "tarde"));
+
+      release.countDown();
+      assertEquals("liberada", blocking.get());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  /** Agrupador com lotes de uma escrita e transacoes sem banco */
+  private static MovieWriteCoalescer standaloneCoalescer() {
+    PlatformTransactionManager transactionManager =
+        new PlatformTransactionManager() {
+          @Override
+          public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+          }
+
+          @Override
+          public void commit(TransactionStatus status) {}
+
+          @Override
+          public void rollback(TransactionStatus status) {}
+        };
+    return new MovieWriteCoalescer(true, 1, 0, transactionManager, new SimpleMeterRegistry());
+  }
+
+  /** Bloqueia o lote ate a liberacao, sem reagir a interrupcao do encerramento */
+  private static String block(CountDownLatch started, CountDownLatch release) {
+    started.countDown();
+    boolean interrupted = false;
+    while (release.getCount() > 0) {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    return "liberada";
+  }
+
+  private List<Object> runConcurrently(IndexedWrite write) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Object>> futures = new ArrayList<>();
+      for (int i = 0; i < WRITERS; i++) {
+        int index = i;
+        Callable<Object> task =
+            () -> {
+              start.await();
+              try {
+                return write.run(index);
+              } catch (BusinessException e) {
+                return e;
+              }
+            };
+        futures.add(executor.submit(task));
+      }
+      start.countDown();
+
+      List<Object> results = new ArrayList<>();
+      for (Future<Object> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @FunctionalInterface
+  private interface IndexedWrite {
+    Object run(int index);
+  }
+}
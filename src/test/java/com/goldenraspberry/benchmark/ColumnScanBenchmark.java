@@ -0,0 +1,74 @@
+package com.goldenraspberry.benchmark;
+
+import com.goldenraspberry.common.util.ColumnScan;
+import com.goldenraspberry.infrastructure.persistence.columnar.VectorColumnScan;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Varreduras da copia colunar, escalar contra Vector API: faixa de anos dos vencedores (min/max com
+ * mascara) e diferencas entre anos consecutivos. 206 linhas e o tamanho do movielist.csv.
+ *
+ * <p>Uso: benchmark/jmh.sh ColumnScanBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class ColumnScanBenchmark {
+
+  @Param({"206", "1000000"})
+  private int rows;
+
+  @Param({"scalar", "vector"})
+  private String implementation;
+
+  private ColumnScan scan;
+  private int[] years;
+  private int[] sortedYears;
+  private long[] winners;
+  private int[] gaps;
+
+  @Setup
+  public void setUp() {
+    scan = implementation.equals("vector") ? new VectorColumnScan() : ColumnScan.scalar();
+    Random random = new Random(42);
+    years = random.ints(rows, 1980, 2020).toArray();
+    sortedYears = years.clone();
+    Arrays.sort(sortedYears);
+    winners = new long[(rows + 63) >>> 6];
+    for (int row = 0; row < rows; row++) {
+      if (random.nextInt(5) == 0) {
+        winners[row >>> 6] |= 1L << row;
+      }
+    }
+    gaps = new int[rows - 1];
+  }
+
+  @Benchmark
+  public int winnerYearRange() {
+    return scan.max(years, rows, winners) - scan.min(years, rows, winners);
+  }
+
+  @Benchmark
+  public int[] yearDeltas() {
+    scan.deltas(sortedYears, rows, gaps);
+    return gaps;
+  }
+}
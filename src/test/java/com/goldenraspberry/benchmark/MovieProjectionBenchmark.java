@@ -0,0 +1,86 @@
+package com.goldenraspberry.benchmark;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.mapper.MovieDtoMapper;
+import com.goldenraspberry.infrastructure.persistence.entity.MovieJpaEntity;
+import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compara as duas projecoes de uma listagem de filmes: entidade para dominio para DTO (caminho das
+ * escritas e dos vencedores) e entidade direto para DTO (porta de leitura das listagens). Executar
+ * com {@code -prof gc} para ver bytes alocados por operacao (gc.alloc.rate.norm).
+ *
+ * <p>Uso: benchmark/jmh.sh MovieProjectionBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MovieProjectionBenchmark {
+
+  /** Filmes por listagem: a base original e uma base replicada */
+  @Param({"206", "20000"})
+  private int movies;
+
+  private final MovieEntityMapper entityMapper = new MovieEntityMapper();
+  private List<MovieJpaEntity> entities;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<String[]> rows = readMovieList();
+    entities = new ArrayList<>(movies);
+    for (int i = 0; i < movies; i++) {
+      String[] row = rows.get(i % rows.size());
+      MovieJpaEntity entity =
+          new MovieJpaEntity(
+              Integer.parseInt(row[0]), row[1], row[2], row[3], "yes".equals(row[4]));
+      entity.setId((long) i + 1);
+      entities.add(entity);
+    }
+  }
+
+  @Benchmark
+  public List<MovieDto> viaDomain() {
+    return MovieDtoMapper.toDtoList(entityMapper.toDomainList(entities));
+  }
+
+  @Benchmark
+  public List<MovieDto> direct() {
+    return entityMapper.toDtoList(entities);
+  }
+
+  private static List<String[]> readMovieList() throws IOException {
+    List<String[]> rows = new ArrayList<>();
+    try (InputStream input = MovieProjectionBenchmark.class.getResourceAsStream("/movielist.csv");
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      reader.readLine();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        rows.add(line.split(";", -1));
+      }
+    }
+    return rows;
+  }
+}
@@ -0,0 +1,76 @@
+package com.goldenraspberry.benchmark;
+
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.ProducerTokenizer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Separacao da coluna de produtores de todas as linhas do movielist.csv: o tokenizador de uma
+ * passada contra o caminho anterior (replace de " and ", split por regex, stream, trim e filtro).
+ *
+ * <p>Uso: benchmark/jmh.sh ProducerTokenizerBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class ProducerTokenizerBenchmark {
+
+  private List<String> producerColumns;
+
+  @Setup
+  public void setUp() throws IOException {
+    producerColumns = new ArrayList<>();
+    try (InputStream input =
+            ProducerTokenizerBenchmark.class.getResourceAsStream("/movielist.csv");
+        BufferedReader reader =
+            new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+      reader.readLine();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        producerColumns.add(line.split(";", -1)[3]);
+      }
+    }
+  }
+
+  @Benchmark
+  public void tokenizer(Blackhole blackhole) {
+    for (String column : producerColumns) {
+      blackhole.consume(ProducerTokenizer.parse(column));
+    }
+  }
+
+  @Benchmark
+  public void replaceAndSplit(Blackhole blackhole) {
+    for (String column : producerColumns) {
+      blackhole.consume(
+          Arrays.stream(column.replace(" and ", ", ").split(", "))
+              .map(String::trim)
+              .filter(name -> !name.isEmpty())
+              .map(Producer::of)
+              .collect(Collectors.toList()));
+    }
+  }
+}
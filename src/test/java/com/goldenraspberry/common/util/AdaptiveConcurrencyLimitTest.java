@@ -0,0 +1,89 @@
+package com.goldenraspberry.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/** Testes para AdaptiveConcurrencyLimit */
+class AdaptiveConcurrencyLimitTest {
+
+  private static final Duration THRESHOLD = Duration.ofMillis(100);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final AdaptiveConcurrencyLimit limit =
+      new AdaptiveConcurrencyLimit(10, 2, 20, THRESHOLD, 0.5, clock::get);
+
+  @Test
+  void shouldRejectLowerSharesFirst() {
+    List<AdaptiveConcurrencyLimit.Permit> permits = acquire(5, 0.5);
+
+    assertTrue(limit.tryAcquire(0.5).isEmpty(), "fracao de 50% do limite 10 ja esgotada");
+    permits.addAll(acquire(5, 1.0));
+    assertTrue(limit.tryAcquire(1.0).isEmpty());
+    assertEquals(10, limit.inFlight());
+
+    permits.forEach(AdaptiveConcurrencyLimit.Permit::release);
+    assertEquals(0, limit.inFlight());
+  }
+
+  @Test
+  void shouldDecreaseOncePerWindowWhenLatencyExceedsThreshold() {
+    List<AdaptiveConcurrencyLimit.Permit> slow = acquire(4, 1.0);
+    advance(THRESHOLD.toMillis() + 1);
+
+    // As quatro requisicoes lentas refletem a mesma sobrecarga: uma unica reducao
+    slow.forEach(AdaptiveConcurrencyLimit.Permit::release);
+    assertEquals(5, limit.limit());
+
+    AdaptiveConcurrencyLimit.Permit afterDecrease = acquire(1, 1.0).get(0);
+    advance(THRESHOLD.toMillis() + 1);
+    afterDecrease.release();
+    assertEquals(2, limit.limit(), "reduz ate o minimo");
+  }
+
+  @Test
+  void shouldGrowOnlyWhileTheLimitIsInUse() {
+    for (int i = 0; i < 50; i++) {
+      acquire(1, 1.0).get(0).release();
+    }
+    assertEquals(10, limit.limit(), "com pouca carga o limite nao cresce");
+
+    for (int i = 0; i < 50; i++) {
+      List<AdaptiveConcurrencyLimit.Permit> permits = acquire(limit.limit(), 1.0);
+      permits.forEach(AdaptiveConcurrencyLimit.Permit::release);
+    }
+    assertEquals(20, limit.limit(), "cresce ate o maximo com o limite em uso");
+  }
+
+  @Test
+  void shouldIgnoreUnsampledAndRepeatedReleases() {
+    AdaptiveConcurrencyLimit.Permit permit = acquire(1, 1.0).get(0);
+    advance(THRESHOLD.toMillis() + 1);
+
+    permit.releaseWithoutSample();
+    permit.release();
+
+    assertEquals(10, limit.limit());
+    assertEquals(0, limit.inFlight());
+  }
+
+  private List<AdaptiveConcurrencyLimit.Permit> acquire(int count, double share) {
+    List<AdaptiveConcurrencyLimit.Permit> permits = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Optional<AdaptiveConcurrencyLimit.Permit> permit = limit.tryAcquire(share);
+      assertTrue(permit.isPresent(), "vaga " + (i + 1) + " de " + count);
+      permits.add(permit.get());
+    }
+    return permits;
+  }
+
+  private void advance(long millis) {
+    clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+  }
+}
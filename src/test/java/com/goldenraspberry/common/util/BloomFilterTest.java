@@ -0,0 +1,71 @@
+package com.goldenraspberry.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/** Testes para BloomFilter */
+class BloomFilterTest {
+
+  @Test
+  void shouldNeverReportInsertedKeysAsAbsentAndStayNearTargetRate() {
+    BloomFilter filter = BloomFilter.create(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put("1990\u0000Filme " + i);
+    }
+
+    for (int i = 0; i < 10_000; i++) {
+      assertTrue(filter.mightContain("1990\u0000Filme " + i));
+    }
+    int falsePositives = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (filter.mightContain("1991\u0000Outro " + i)) {
+        falsePositives++;
+      }
+    }
+    assertTrue(falsePositives < 2_000, "falsos positivos: " + falsePositives);
+    assertTrue(filter.expectedFalsePositiveRate() < 0.02);
+    assertEquals(0, filter.bitSize() % 64);
+    assertTrue(filter.hashCount() >= 1);
+  }
+
+  @Test
+  void shouldKeepAllKeysInsertedConcurrently() throws Exception {
+    BloomFilter filter = BloomFilter.create(40_000, 0.01);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> writers = new ArrayList<>();
+      for (int thread = 0; thread < 4; thread++) {
+        int offset = thread * 10_000;
+        writers.add(
+            executor.submit(
+                () -> {
+                  for (int i = offset; i < offset + 10_000; i++) {
+                    filter.put("chave " + i);
+                  }
+                }));
+      }
+      for (Future<?> writer : writers) {
+        writer.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    for (int i = 0; i < 40_000; i++) {
+      assertTrue(filter.mightContain("chave " + i), "chave " + i);
+    }
+  }
+
+  @Test
+  void shouldRejectInvalidFalsePositiveRate() {
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 0));
+    assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1));
+    assertFalse(BloomFilter.create(0, 0.01).mightContain("vazio"));
+  }
+}
@@ -0,0 +1,178 @@
+package com.goldenraspberry.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.exception.DeadlineExceededException.Reason;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Testes para SingleFlight */
+class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SingleFlight<Long, String> flight = new SingleFlight<>("test", meterRegistry);
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void shouldShareOneComputationBetweenConcurrentCallers() throws Exception {
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<Future<String>> results = submitCallers(computations, release, null);
+    awaitSharedCalls(CALLERS - 1);
+    release.countDown();
+
+    for (Future<String> result : results) {
+      assertEquals("value", result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, computations.get());
+    assertEquals(1, count("executed"));
+  }
+
+  @Test
+  void shouldShareFailureAndComputeAgainOnNextCall() throws Exception {
+    AtomicInteger computations = new AtomicInteger();
+    CountDownLatch release = new CountDownLatch(1);
+
+    List<Future<String>> results =
+        submitCallers(computations, release, new IllegalStateException("falha"));
+    awaitSharedCalls(CALLERS - 1);
+    release.countDown();
+
+    for (Future<String> result : results) {
+      ExecutionException e =
+          assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+      assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+    assertEquals(1, computations.get());
+
+    // Nada fica guardado apos o termino: a proxima chamada computa novamente
+    assertEquals("again", flight.execute(1L, () -> "again"));
+    assertEquals(2, count("executed"));
+  }
+
+  @Test
+  void shouldComputeAgainWhenLeaderIsAbandonedByItsDeadline() throws Exception {
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<String> leader =
+        executor.submit(
+            () ->
+                flight.execute(
+                    1L,
+                    () -> {
+                      leaderStarted.countDown();
+                      awaitUninterruptibly(release);
+                      throw new DeadlineExceededException(Reason.EXPIRED);
+                    }));
+    assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+    Future<String> follower = executor.submit(() -> flight.execute(1L, () -> "follower"));
+    awaitSharedCalls(1);
+    release.countDown();
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DeadlineExceededException.class, e.getCause());
+    // O prazo do lider nao vale para quem aguardava: a computacao e refeita
+    assertEquals("follower", follower.get(5, TimeUnit.SECONDS));
+    assertEquals(2, count("executed"));
+  }
+
+  @Test
+  void shouldStopWaitingWhenCallerDeadlineExpires() throws Exception {
+    CountDownLatch leaderStarted = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Future<String> leader =
+        executor.submit(
+            () ->
+                flight.execute(
+                    1L,
+                    () -> {
+                      leaderStarted.countDown();
+                      awaitUninterruptibly(release);
+                      return "value";
+                    }));
+    assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+    List<Reason> abandoned = new ArrayList<>();
+    Deadline deadline = Deadline.after(Duration.ofMillis(20), abandoned::add);
+    DeadlineExceededException e =
+        assertThrows(
+            DeadlineExceededException.class,
+            () -> deadline.call(() -> flight.execute(1L, () -> "never")));
+    assertEquals(Reason.EXPIRED, e.getReason());
+    assertEquals(List.of(Reason.EXPIRED), abandoned);
+
+    release.countDown();
+    assertEquals("value", leader.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldNotShareBetweenDifferentKeys() {
+    assertEquals("a", flight.execute(1L, () -> flight.execute(2L, () -> "a")));
+    assertEquals(2, count("executed"));
+    assertEquals(0, count("shared"));
+  }
+
+  private List<Future<String>> submitCallers(
+      AtomicInteger computations, CountDownLatch release, RuntimeException failure) {
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(
+          executor.submit(
+              () ->
+                  flight.execute(
+                      1L,
+                      () -> {
+                        computations.incrementAndGet();
+                        awaitUninterruptibly(release);
+                        if (failure != null) {
+                          throw failure;
+                        }
+                        return "value";
+                      })));
+    }
+    return results;
+  }
+
+  private void awaitSharedCalls(int expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (count("shared") < expected) {
+      assertTrue(System.nanoTime() < deadline, "Chamadas concorrentes nao foram agrupadas");
+      Thread.sleep(5);
+    }
+  }
+
+  private double count(String result) {
+    return meterRegistry.get("single_flight.calls").tag("result", result).counter().count();
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
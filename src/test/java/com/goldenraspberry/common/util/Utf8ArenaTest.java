@@ -0,0 +1,42 @@
+package com.goldenraspberry.common.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/** Testes para Utf8Arena */
+class Utf8ArenaTest {
+
+  @Test
+  void shouldStoreTextsAcrossChunksAndReadThemBack() {
+    Utf8Arena arena = new Utf8Arena(16);
+
+    long first = arena.append("Can't Stop");
+    long second = arena.append("Ação & Cia");
+    long empty = arena.append("");
+    long missing = arena.append(null);
+
+    assertEquals("Can't Stop", arena.decode(first));
+    assertEquals("Ação & Cia", arena.decode(second));
+    assertEquals("", arena.decode(empty));
+    assertNull(arena.decode(missing));
+    assertEquals(0, Utf8Arena.length(missing));
+
+    byte[] bytes = new byte[Utf8Arena.length(second)];
+    assertEquals(12, arena.copyTo(second, bytes));
+    assertArrayEquals("Ação & Cia".getBytes(StandardCharsets.UTF_8), bytes);
+
+    // O segundo texto nao cabe no restante do primeiro bloco
+    assertEquals(32, arena.reservedBytes());
+    assertEquals(22, arena.usedBytes());
+  }
+
+  @Test
+  void shouldRejectTextLargerThanChunk() {
+    Utf8Arena arena = new Utf8Arena(8);
+
+    assertThrows(IllegalArgumentException.class, () -> arena.append("123456789"));
+    assertThrows(IllegalArgumentException.class, () -> new Utf8Arena(0));
+  }
+}
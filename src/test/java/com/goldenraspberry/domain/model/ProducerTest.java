@@ -0,0 +1,68 @@
+package com.goldenraspberry.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Testes para Producer e seu pool de instancias compartilhadas */
+class ProducerTest {
+
+  @Test
+  void shouldShareInstancesAcrossMoviesOfSameProducer() {
+    Movie first = new Movie(1L, Year.of(1980), "A", "S", List.of(Producer.of("Allan Carr")), true);
+    // Nome lido de outra linha: String igual, mas outro objeto
+    String sameName = new String("Allan Carr");
+    Movie second = new Movie(2L, Year.of(1980), "B", "S", List.of(Producer.of(sameName)), false);
+
+    assertSame(first.getProducers().get(0), second.getProducers().get(0));
+    assertSame(first.getYear(), second.getYear());
+    assertNotSame(Producer.of("Allan Carr"), Producer.of("Jerry Weintraub"));
+    assertEquals(new Producer("Allan Carr"), Producer.of("Allan Carr"));
+  }
+
+  @Test
+  void shouldRejectInvalidNamesWithoutPoolingThem() {
+    ProducerPool pool = new ProducerPool(10);
+
+    assertThrows(IllegalArgumentException.class, () -> pool.intern(" "));
+    assertThrows(NullPointerException.class, () -> Producer.of(null));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  void shouldGiveOwnInstancesBeyondCapacity() {
+    ProducerPool pool = new ProducerPool(2);
+    Producer first = pool.intern("P1");
+    Producer second = pool.intern("P2");
+
+    Producer overflow = pool.intern("P3");
+
+    assertEquals(2, pool.size());
+    assertSame(first, pool.intern("P1"));
+    assertSame(second, pool.intern("P2"));
+    assertEquals("P3", overflow.getName());
+    assertNotSame(overflow, pool.intern("P3"));
+  }
+
+  @Test
+  void shouldReleaseNamesNoLongerReferenced() throws InterruptedException {
+    ProducerPool pool = new ProducerPool(2);
+    List<Producer> retained = new ArrayList<>();
+    retained.add(pool.intern("Mantido"));
+    pool.intern("Descartado");
+    assertEquals(2, pool.size());
+
+    // Sem referencias fortes, a entrada sai do pool apos a coleta
+    for (int attempt = 0; attempt < 50 && pool.size() > 1; attempt++) {
+      System.gc();
+      Thread.sleep(20);
+    }
+
+    assertEquals(1, pool.size());
+    assertSame(retained.get(0), pool.intern("Mantido"));
+    // A vaga liberada volta a ser usada por nomes novos
+    assertSame(pool.intern("Novo"), pool.intern("Novo"));
+  }
+}
@@ -0,0 +1,56 @@
+package com.goldenraspberry.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Testes para ProducerTokenizer */
+class ProducerTokenizerTest {
+
+  @Test
+  void shouldSplitOnCommaAndAndIncludingOxfordComma() {
+    assertEquals(List.of("Allan Carr"), ProducerTokenizer.parseNames("Allan Carr"));
+    assertEquals(
+        List.of("Mitsuharu Ishii", "Jerry Weintraub", "Bo Derek"),
+        ProducerTokenizer.parseNames("Mitsuharu Ishii, Jerry Weintraub and Bo Derek"));
+    assertEquals(
+        List.of("Debra Hayward", "Tim Bevan", "Eric Fellner", "Tom Hooper"),
+        ProducerTokenizer.parseNames("Debra Hayward, Tim Bevan, Eric Fellner, and Tom Hooper"));
+    assertEquals(List.of("A", "B"), ProducerTokenizer.parseNames("  A ,  , B  "));
+    assertEquals(List.of(), ProducerTokenizer.parseNames(" , "));
+  }
+
+  @Test
+  void shouldKeepCommaWithoutFollowingSpaceInName() {
+    assertEquals(List.of("A,B"), ProducerTokenizer.parseNames("A,B"));
+    assertEquals(
+        List.of("Jerry Bruckheimer", "Simpson,Don"),
+        ProducerTokenizer.parseNames("Jerry Bruckheimer and Simpson,Don"));
+    assertEquals(List.of("A,", "B"), ProducerTokenizer.parseNames("A,, B"));
+  }
+
+  @Test
+  void shouldKeepNamesThatOnlyContainAnd() {
+    assertEquals(
+        List.of("Andrew Vajna", "Sandy Howard"),
+        ProducerTokenizer.parseNames("Andrew Vajna and Sandy Howard"));
+    assertEquals(
+        List.of("Brian Robbinsand Sharla"),
+        ProducerTokenizer.parseNames("Brian Robbinsand Sharla"));
+  }
+
+  @Test
+  void shouldReturnCanonicalProducers() {
+    List<Producer> first = ProducerTokenizer.parse("Joel Silver and Matthew Vaughn");
+    List<Producer> second = ProducerTokenizer.parse("Matthew Vaughn, Joel Silver");
+
+    assertSame(first.get(0), second.get(1));
+    assertSame(first.get(1), second.get(0));
+
+    // O pool guarda referencias fracas: a referencia forte mantem o produtor entre as consultas
+    Producer joel = Producer.of("Joel Silver");
+    assertSame(joel.getName(), ProducerTokenizer.parseNames("Joel Silver").get(0));
+    assertSame(joel, ProducerTokenizer.parse("Joel Silver").get(0));
+  }
+}
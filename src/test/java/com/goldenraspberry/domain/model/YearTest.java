@@ -0,0 +1,24 @@
+package com.goldenraspberry.domain.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Testes para Year e suas instancias pre-construidas */
+class YearTest {
+
+  @Test
+  void shouldReturnCanonicalInstancesWithinRange() {
+    assertSame(Year.of(1900), Year.of(1900));
+    assertSame(Year.of(1980), Year.of(1980));
+    assertSame(Year.of(2100), Year.of(2100));
+    assertEquals(new Year(1980), Year.of(1980));
+    assertEquals(1980, Year.of(1980).getValue());
+  }
+
+  @Test
+  void shouldRejectYearsOutOfRange() {
+    assertThrows(IllegalArgumentException.class, () -> Year.of(1899));
+    assertThrows(IllegalArgumentException.class, () -> Year.of(2101));
+  }
+}
@@ -2,7 +2,9 @@ package com.goldenraspberry.infrastructure.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.goldenraspberry.infrastructure.monitoring.StartupPhaseRecorder;
 import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,6 +22,8 @@ class DataInitializerTest {
 
   @Autowired private MovieJpaRepository movieRepository;
 
+  @Autowired private StartupPhaseRecorder phaseRecorder;
+
   @Test
   void testDataInitializationLoadsMovies() {
     // Verificar se dados foram carregados na inicialização
@@ -140,4 +144,18 @@ class DataInitializerTest {
                     String.format(
                         "Estúdio: %s - Filme: %s", movie.getStudios(), movie.getTitle())));
   }
+
+  @Test
+  void testStartupPhasesAreRecorded() {
+    Map<String, Object> snapshot = phaseRecorder.snapshot();
+
+    assertNotNull(
+        snapshot.get("jvmUptimeAtDataReadyMs"), "Momento de dados prontos deveria existir");
+
+    @SuppressWarnings("unchecked")
+    Map<String, Long> phases = (Map<String, Long>) snapshot.get("phases");
+    assertTrue(phases.containsKey("data.total"), "Fase total deveria ser registrada");
+    assertTrue(phases.containsKey("data.csv-parse"), "Fase de parsing do CSV deveria existir");
+    assertTrue(phases.containsKey("data.save-all"), "Fase de saveAll deveria ser registrada");
+  }
 }
@@ -0,0 +1,112 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.domain.port.MovieRepository;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumnStore;
+import com.goldenraspberry.infrastructure.persistence.columnar.MovieColumns;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** Testes de integracao para a estimativa de memoria da base (DatasetFootprint) */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DatasetFootprintIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MovieRepository movieRepository;
+
+  @Autowired private DatasetFootprint datasetFootprint;
+
+  @Autowired private MovieColumnStore columnStore;
+
+  /**
+   * Testa a estimativa de memoria da base O levantamento deve trazer contagens por estrutura e
+   * estatisticas dos caches, e so ser refeito quando a base muda
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReportDatasetFootprintAndRefreshOnlyOnChange() throws Exception {
+    getWinners();
+    Map<String, Object> first = datasetFootprint.snapshot();
+    long movies = movieRepository.count();
+
+    assertThat((Map<String, Object>) first.get("movies")).containsEntry("entries", movies);
+    Map<String, Object> producers = (Map<String, Object>) first.get("producers");
+    assertThat((Long) producers.get("distinct"))
+        .isPositive()
+        .isLessThanOrEqualTo((Long) producers.get("references"));
+    assertThat((Long) ((Map<String, Object>) first.get("studios")).get("distinct")).isPositive();
+    assertThat((Map<String, Object>) first.get("indexes"))
+        .containsKeys("idx_movie_title_id", "idx_movie_winner", "duplicateFilter");
+    Map<String, Object> moviesCache =
+        (Map<String, Object>) ((Map<String, Object>) first.get("caches")).get("movies");
+    assertThat(moviesCache).containsKeys("entries", "hits", "misses", "evictions");
+    assertThat((Long) first.get("estimatedTotalBytes")).isPositive();
+
+    // A copia colunar ja construida informa o texto mantido fora do heap
+    MovieColumns columns = columnStore.columns();
+    Map<String, Object> withColumns = datasetFootprint.snapshot();
+    assertThat((Map<String, Object>) withColumns.get("columnar"))
+        .containsEntry("enabled", false)
+        .containsEntry("datasetVersion", columns.version())
+        .containsEntry("entries", movies)
+        .containsEntry("offHeapUsedBytes", columns.offHeapUsedBytes());
+    assertThat((Long) withColumns.get("offHeapBytes"))
+        .isEqualTo(columns.offHeapReservedBytes())
+        .isPositive();
+
+    // Sem alteracoes, a tabela nao e percorrida de novo
+    assertThat(withColumns.get("computedAt")).isEqualTo(first.get("computedAt"));
+
+    MovieDto created =
+        objectMapper.readValue(
+            mockMvc
+                .perform(
+                    post("/api/v1/movies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(
+                            objectMapper.writeValueAsString(
+                                new MovieInputDto(
+                                    2030, "Footprint Movie", "S", List.of("P"), false))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            MovieDto.class);
+    Map<String, Object> changed = datasetFootprint.snapshot();
+    mockMvc.perform(delete("/api/v1/movies/{id}", created.getId()));
+
+    assertThat((Long) changed.get("datasetVersion"))
+        .isGreaterThan((Long) first.get("datasetVersion"));
+    assertThat((Map<String, Object>) changed.get("movies")).containsEntry("entries", movies + 1);
+  }
+
+  private List<MovieDto> getWinners() throws Exception {
+    String content =
+        mockMvc
+            .perform(get("/api/v1/movies/winners"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(
+        content, objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+  }
+}
@@ -0,0 +1,85 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.goldenraspberry.infrastructure.csv.MovieCsvLoader;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** Testes de integracao para os eventos proprios do JDK Flight Recorder */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class FlightRecorderEventsIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private MovieCsvLoader csvLoader;
+
+  /**
+   * Testa os eventos do JDK Flight Recorder A gravacao controlada pelo endpoint jfr deve conter a
+   * leitura do CSV, o calculo de intervalos e as buscas do repositorio e do modelo de leitura
+   */
+  @Test
+  void shouldRecordFlightRecorderEvents() throws Exception {
+    FlightRecordingEndpoint endpoint = new FlightRecordingEndpoint("default", 60, 60);
+    assertThat(endpoint.start(null).getStatus()).isEqualTo(200);
+    try {
+      assertThat(endpoint.start(null).getStatus()).isEqualTo(409);
+      csvLoader.loadMovies();
+      mockMvc.perform(get("/api/v1/producers/intervals")).andExpect(status().isOk());
+      mockMvc.perform(get("/api/v1/movies")).andExpect(status().isOk());
+    } finally {
+      endpoint.stop();
+    }
+
+    String fileName = (String) endpoint.status().get("file");
+    assertThat(endpoint.download("other.jfr").getStatus()).isEqualTo(404);
+    Path file = endpoint.download(fileName).getBody().getFile().toPath();
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+    endpoint.close();
+    assertThat(file).doesNotExist();
+    assertThat(endpoint.status()).containsEntry("state", "NONE");
+
+    RecordedEvent csvLoad = singleEvent(events, "goldenraspberry.CsvLoad");
+    assertThat(csvLoad.getString("source")).contains("movielist.csv");
+    assertThat(csvLoad.getInt("rows")).isEqualTo(csvLoad.getInt("movies")).isPositive();
+    assertThat(csvLoad.getLong("bytes")).isPositive();
+
+    RecordedEvent computation = singleEvent(events, "goldenraspberry.IntervalComputation");
+    assertThat(computation.getInt("movies")).isGreaterThan(computation.getInt("winners"));
+    assertThat(computation.getInt("producers")).isPositive();
+    assertThat(computation.getInt("minIntervals")).isPositive();
+    assertThat(computation.getDuration()).isPositive();
+
+    assertThat(events)
+        .filteredOn(
+            event -> event.getEventType().getName().equals("goldenraspberry.RepositoryQuery"))
+        .anyMatch(
+            event ->
+                event.getString("port").equals("MovieRepository")
+                    && event.getString("operation").equals("findAll"))
+        .anyMatch(
+            event ->
+                event.getString("port").equals("MovieReadModel")
+                    && event.getString("operation").equals("findAll")
+                    && event.getInt("results") > 0);
+  }
+
+  private static RecordedEvent singleEvent(List<RecordedEvent> events, String name) {
+    List<RecordedEvent> matching =
+        events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    assertThat(matching).as("eventos %s", name).hasSize(1);
+    return matching.get(0);
+  }
+}
@@ -0,0 +1,93 @@
+package com.goldenraspberry.infrastructure.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** Testes de integracao para as metricas por requisicao: latencia por camada e bytes alocados */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestMetricsIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  /**
+   * Cada camada do calculo de intervalos tem seu timer e a latencia do endpoint e publicada com os
+   * buckets de SLO
+   */
+  @Test
+  void shouldRecordLatencyPerLayerAndSloBuckets() throws Exception {
+    mockMvc.perform(get("/api/v1/producers/intervals")).andExpect(status().isOk());
+
+    for (String layer : List.of("usecase", "repository", "mapping", "computation")) {
+      assertThat(meterRegistry.get("app.operation").tag("layer", layer).timers())
+          .as("timer da camada %s", layer)
+          .anyMatch(timer -> timer.count() > 0);
+    }
+    assertThat(
+            meterRegistry
+                .get("app.operation")
+                .tag("operation", "ProducerIntervalCalculator.findMinMaxIntervals")
+                .timer()
+                .count())
+        .isPositive();
+
+    HistogramSnapshot snapshot =
+        meterRegistry
+            .get("http.server.requests")
+            .tag("uri", "/api/v1/producers/intervals")
+            .timer()
+            .takeSnapshot();
+    assertThat(snapshot.histogramCounts())
+        .extracting(bucket -> bucket.bucket(TimeUnit.MILLISECONDS))
+        .contains(25.0, 50.0, 100.0, 250.0, 500.0, 1000.0, 2000.0);
+  }
+
+  /**
+   * Testa o orcamento de alocacao dos endpoints de leitura mais usados A media de bytes alocados
+   * por requisicao (app.request.allocated.bytes), apos o aquecimento, deve ficar dentro do
+   * orcamento
+   */
+  @Test
+  void shouldKeepAllocationPerRequestWithinBudget() throws Exception {
+    Map<String, Long> budgets =
+        Map.of(
+            "/api/v1/producers/intervals", 2L * 1024 * 1024,
+            "/api/v1/movies/winners", 1024L * 1024);
+
+    for (Map.Entry<String, Long> budget : budgets.entrySet()) {
+      String uri = budget.getKey();
+      for (int i = 0; i < 10; i++) {
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+      }
+      DistributionSummary summary =
+          meterRegistry.get("app.request.allocated.bytes").tag("uri", uri).summary();
+      long countBefore = summary.count();
+      double totalBefore = summary.totalAmount();
+      for (int i = 0; i < 20; i++) {
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+      }
+
+      double mean = (summary.totalAmount() - totalBefore) / (summary.count() - countBefore);
+      assertThat(summary.takeSnapshot().histogramCounts()).as("buckets de orcamento").hasSize(5);
+      assertThat(mean).as("bytes alocados por requisicao em %s", uri).isPositive();
+      assertThat(mean).as("bytes alocados por requisicao em %s", uri).isLessThan(budget.getValue());
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.port.MovieReadModel;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.model.Producer;
+import com.goldenraspberry.domain.model.Year;
+import com.goldenraspberry.domain.port.MovieRepository;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/** Testes de integração para JpaMovieReadModel, com a projecao direta de entidades em DTOs */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JpaMovieReadModelTest {
+
+  @Autowired private MovieReadModel movieReadModel;
+
+  @Autowired private MovieRepository movieRepository;
+
+  private Movie first;
+  private Movie second;
+  private Movie third;
+
+  @BeforeEach
+  void setUp() {
+    movieRepository.deleteAll();
+    first = save(1980, "Cruising", "Lorimar Productions, United Artists", false, "Jerry Weintraub");
+    second = save(1981, "Mommie Dearest", "Paramount Pictures", true, "Frank Yablans");
+    third = save(1984, "Bolero", "Cannon Films", true, "Bo Derek", "Menahem Golan", "Yoram Globus");
+  }
+
+  @Test
+  void shouldProjectAllMoviesToDtos() {
+    List<MovieDto> movies = movieReadModel.findAll();
+
+    assertEquals(3, movies.size());
+    MovieDto bolero =
+        movies.stream().filter(movie -> movie.getId().equals(third.getId())).findFirst().get();
+    assertEquals(1984, bolero.getYear());
+    assertEquals("Bolero", bolero.getTitle());
+    assertEquals("Cannon Films", bolero.getStudios());
+    assertEquals(List.of("Bo Derek", "Menahem Golan", "Yoram Globus"), bolero.getProducers());
+    assertTrue(bolero.getWinner());
+  }
+
+  @Test
+  void shouldPageInIdOrderWithTotalCount() {
+    Page<MovieDto> firstPage = movieReadModel.findAll(PageRequest.of(0, 2, Sort.by("id")));
+    Page<MovieDto> lastPage = movieReadModel.findAll(PageRequest.of(1, 2, Sort.by("id")));
+
+    assertEquals(3, firstPage.getTotalElements());
+    assertEquals(2, firstPage.getTotalPages());
+    assertEquals(
+        List.of(first.getId(), second.getId()),
+        firstPage.getContent().stream().map(MovieDto::getId).toList());
+    assertEquals(
+        List.of(third.getId()), lastPage.getContent().stream().map(MovieDto::getId).toList());
+  }
+
+  @Test
+  void shouldHonorRequestedSort() {
+    Page<MovieDto> page = movieReadModel.findAll(PageRequest.of(0, 3, Sort.by("title")));
+
+    assertEquals(
+        List.of("Bolero", "Cruising", "Mommie Dearest"),
+        page.getContent().stream().map(MovieDto::getTitle).toList());
+  }
+
+  private Movie save(int year, String title, String studios, boolean winner, String... producers) {
+    List<Producer> names = Arrays.stream(producers).map(Producer::of).toList();
+    return movieRepository.save(new Movie(null, Year.of(year), title, studios, names, winner));
+  }
+}
@@ -0,0 +1,75 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Testes para a substituicao do filtro de duplicidade durante uma carga completa */
+class MovieDuplicateFilterTest {
+
+  private final MovieDuplicateFilter filter =
+      new MovieDuplicateFilter(null, new SimpleMeterRegistry());
+
+  @AfterEach
+  void clearSynchronization() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldPublishLoadFilterOnlyAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+    MovieDuplicateFilter.Replacement loaded = filter.beginReplacement(10);
+    loaded.put("Novo", 2020);
+
+    // Antes do commit, a carga ve as suas chaves e as demais escritas continuam indo ao banco
+    AtomicInteger lookups = new AtomicInteger();
+    assertFalse(loaded.exists("Antigo", 1990, () -> lookups.incrementAndGet() < 0));
+    assertTrue(filter.exists("Antigo", 1990, () -> lookups.incrementAndGet() > 0));
+    assertEquals(1, lookups.get());
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+
+    assertFalse(filter.exists("Antigo", 1990, () -> fail("filtro publicado deve responder")));
+    assertTrue(filter.exists("Novo", 2020, () -> true));
+  }
+
+  @Test
+  void shouldKeepConcurrentWritesMadeDuringLoad() {
+    TransactionSynchronizationManager.initSynchronization();
+    MovieDuplicateFilter.Replacement loaded = filter.beginReplacement(10);
+
+    // Escrita de outra transacao durante a carga
+    filter.put("Concorrente", 2021);
+    assertTrue(loaded.exists("Concorrente", 2021, () -> true));
+
+    complete(TransactionSynchronization.STATUS_COMMITTED);
+    assertTrue(filter.exists("Concorrente", 2021, () -> true));
+  }
+
+  @Test
+  void shouldKeepCurrentFilterOnRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+    filter.beginReplacement(10).put("Novo", 2020);
+
+    complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+    assertEquals(0, filter.bitSize());
+  }
+
+  @Test
+  void shouldRequireTransaction() {
+    assertThrows(IllegalStateException.class, () -> filter.beginReplacement(10));
+  }
+
+  private static void complete(int status) {
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(sync -> sync.afterCompletion(status));
+  }
+}
@@ -27,8 +27,8 @@ class MovieJpaRepositoryTest {
 
   @BeforeEach
   void setUp() {
-    // Limpar dados existentes
-    movieRepository.deleteAll();
+    // Limpar dados existentes (DELETE imediato, antes dos inserts com mesmo titulo e ano)
+    movieRepository.deleteAllInBatch();
 
     // Filme vencedor 1
     winnerMovie1 = new MovieJpaEntity();
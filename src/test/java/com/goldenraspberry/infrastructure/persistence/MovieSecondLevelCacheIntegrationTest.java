@@ -0,0 +1,97 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Testes de integracao para o cache de segundo nivel. A recarga da base recria os filmes com novos
+ * IDs: usa banco proprio para nao alterar os dados dos demais testes, e limpa o cache, que e
+ * compartilhado por todos os contextos da JVM.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:cachedb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+    })
+class MovieSecondLevelCacheIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  @Autowired private MovieCacheEvictor cacheEvictor;
+
+  @BeforeEach
+  @AfterEach
+  void evictSecondLevelCache() {
+    cacheEvictor.evictAll();
+  }
+
+  /**
+   * Testa o cache de segundo nivel nas leituras por ID e de vencedores Leituras repetidas devem vir
+   * do cache, e a recarga completa da base nao pode deixar filmes antigos no cache
+   */
+  @Test
+  void shouldServeRepeatedReadsFromCacheAndEvictOnReload() throws Exception {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+    List<MovieDto> winners = getWinners();
+    assertThat(winners).isNotEmpty();
+    Long movieId = winners.get(0).getId();
+
+    mockMvc.perform(get("/api/v1/movies/{id}", movieId)).andExpect(status().isOk());
+    long entityHits = statistics.getSecondLevelCacheHitCount();
+    mockMvc.perform(get("/api/v1/movies/{id}", movieId)).andExpect(status().isOk());
+    assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(entityHits);
+
+    long queryHits = statistics.getQueryCacheHitCount();
+    assertThat(getWinners()).hasSameSizeAs(winners);
+    assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+
+    // A recarga recria todos os filmes com novos IDs (executa no bulkhead de cargas)
+    MvcResult reload =
+        mockMvc.perform(post("/api/data/reload")).andExpect(request().asyncStarted()).andReturn();
+    mockMvc.perform(asyncDispatch(reload)).andExpect(status().isOk());
+
+    mockMvc.perform(get("/api/v1/movies/{id}", movieId)).andExpect(status().isBadRequest());
+    List<MovieDto> reloadedWinners = getWinners();
+    assertThat(reloadedWinners)
+        .extracting(MovieDto::getTitle)
+        .containsExactlyInAnyOrderElementsOf(winners.stream().map(MovieDto::getTitle).toList());
+    assertThat(reloadedWinners).extracting(MovieDto::getId).doesNotContain(movieId);
+  }
+
+  private List<MovieDto> getWinners() throws Exception {
+    String content =
+        mockMvc
+            .perform(get("/api/v1/movies/winners"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(
+        content, objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+  }
+}
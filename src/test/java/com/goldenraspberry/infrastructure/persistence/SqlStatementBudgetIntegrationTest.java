@@ -0,0 +1,113 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/** Testes de integracao que fixam o numero de comandos SQL executados por endpoint */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  /**
+   * Fixa o numero de comandos SQL de cada endpoint Insercoes em lote nao podem crescer com o numero
+   * de filmes, e atualizacoes e leituras nao podem carregar a tabela inteira (N+1 e afins)
+   */
+  @Test
+  void shouldKeepSqlStatementsPerEndpointBounded() throws Exception {
+    List<Long> createdIds = new ArrayList<>();
+    long[] statementsBySize = new long[2];
+    int[] sizes = {2, 20};
+    for (int s = 0; s < sizes.length; s++) {
+      List<MovieInputDto> inputs = new ArrayList<>();
+      for (int i = 0; i < sizes[s]; i++) {
+        inputs.add(
+            new MovieInputDto(2030, "Statements " + sizes[s] + "-" + i, "S", List.of("P"), false));
+      }
+      String body = objectMapper.writeValueAsString(inputs);
+      JsonNode[] created = new JsonNode[1];
+      statementsBySize[s] =
+          SqlStatementCounts.count(
+              () -> created[0] = batchRequest(post("/api/v1/movies/batch"), body));
+      created[0].get("results").forEach(result -> createdIds.add(result.get("id").asLong()));
+    }
+    // Consulta de unicidade, sequence (quando esgotada) e um INSERT por lote de 50
+    assertThat(statementsBySize[0]).isLessThanOrEqualTo(3);
+    assertThat(statementsBySize[1]).isLessThanOrEqualTo(statementsBySize[0] + 1);
+
+    String update =
+        objectMapper.writeValueAsString(
+            new MovieInputDto(2031, "Statements Updated", "S", List.of("P", "Q"), true));
+    // Busca por ID, consulta de unicidade e o UPDATE
+    SqlStatementCounts.assertAtMost(
+        "PUT /api/v1/movies/{id}",
+        3,
+        () ->
+            mockMvc
+                .perform(
+                    put("/api/v1/movies/{id}", createdIds.get(0))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(update))
+                .andExpect(status().isOk()));
+    SqlStatementCounts.assertAtMost(
+        "GET /api/v1/movies/{id}",
+        1,
+        () ->
+            mockMvc
+                .perform(get("/api/v1/movies/{id}", createdIds.get(1)))
+                .andExpect(status().isOk()));
+    SqlStatementCounts.assertAtMost(
+        "GET /api/v1/producers/intervals",
+        1,
+        () -> mockMvc.perform(get("/api/v1/producers/intervals")).andExpect(status().isOk()));
+
+    batchRequest(delete("/api/v1/movies/batch"), objectMapper.writeValueAsString(createdIds));
+
+    // Os mesmos numeros ficam disponiveis por endpoint em producao
+    assertThat(
+            meterRegistry
+                .get("app.request.sql.statements")
+                .tag("uri", "/api/v1/movies/batch")
+                .tag("method", "POST")
+                .summary()
+                .count())
+        .isGreaterThanOrEqualTo(2);
+    assertThat(meterRegistry.get("hibernate.flushes").functionCounter().count()).isPositive();
+    assertThat(meterRegistry.get("hibernate.query.slow").gauge().value()).isNotNegative();
+  }
+
+  private JsonNode batchRequest(MockHttpServletRequestBuilder request, String body)
+      throws Exception {
+    String content =
+        mockMvc
+            .perform(request.contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    return objectMapper.readTree(content);
+  }
+}
@@ -0,0 +1,45 @@
+package com.goldenraspberry.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Utilitario de teste que conta os comandos SQL executados por uma acao na thread atual (via {@link
+ * SqlStatementCounter}). Com MockMvc a requisicao roda na thread do teste, entao o total inclui
+ * tudo o que o endpoint executou, exceto o trabalho assincrono (cargas e streaming).
+ *
+ * <p>Fixar o numero de comandos de um endpoint detecta regressoes de desempenho que os testes
+ * funcionais nao veem: N+1, insercoes linha a linha, leitura da tabela inteira.
+ */
+public final class SqlStatementCounts {
+
+  private SqlStatementCounts() {}
+
+  /** Acao medida (normalmente uma chamada ao MockMvc) */
+  @FunctionalInterface
+  public interface Action {
+    void run() throws Exception;
+  }
+
+  /**
+   * Conta os comandos SQL executados pela acao
+   *
+   * @param action Acao a executar
+   * @return Numero de comandos preparados durante a acao
+   */
+  public static long count(Action action) throws Exception {
+    long before = SqlStatementCounter.current();
+    action.run();
+    return SqlStatementCounter.current() - before;
+  }
+
+  /**
+   * Verifica que a acao executa no maximo o numero de comandos informado
+   *
+   * @param description Descricao da acao, exibida na falha
+   * @param max Numero maximo de comandos
+   * @param action Acao a executar
+   */
+  public static void assertAtMost(String description, long max, Action action) throws Exception {
+    assertThat(count(action)).as("comandos SQL em %s", description).isLessThanOrEqualTo(max);
+  }
+}
@@ -0,0 +1,231 @@
+package com.goldenraspberry.infrastructure.persistence.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import com.goldenraspberry.application.port.MovieReadModel;
+import com.goldenraspberry.infrastructure.persistence.MovieCacheEvictor;
+import com.goldenraspberry.infrastructure.persistence.mapper.MovieEntityMapper;
+import com.goldenraspberry.infrastructure.persistence.repository.MovieJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Testes de integração com a copia colunar habilitada: listagem, paginas por ID, ordenacoes que
+ * voltam ao JPA, estatisticas e reconstrucao apos escritas. Usa banco proprio, pois o contexto com
+ * a copia habilitada nao e compartilhado com os demais testes, e limpa o cache de segundo nivel,
+ * que e compartilhado por todos os contextos da JVM.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(
+    properties = {
+      "app.storage.columnar.enabled=true",
+      "spring.datasource.url=jdbc:h2:mem:columnardb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+    })
+class MovieColumnStoreTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MovieColumnStore columnStore;
+
+  @Autowired private MovieReadModel movieReadModel;
+
+  @Autowired private MovieJpaRepository jpaRepository;
+
+  @Autowired private MovieEntityMapper entityMapper;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private MovieCacheEvictor cacheEvictor;
+
+  @BeforeEach
+  @AfterEach
+  void evictSecondLevelCache() {
+    cacheEvictor.evictAll();
+  }
+
+  @Test
+  void shouldListFromColumnarCopyWithSameJsonAsJpa() throws Exception {
+    JsonNode listed = getJson("/api/v1/movies");
+
+    assertTrue(columnStore.isEnabled());
+    assertEquals(jpaJson(0, Integer.MAX_VALUE), listed);
+    assertEquals(columnStore.columns().size(), listed.size());
+    assertEquals(
+        (double) columnStore.columns().size(),
+        meterRegistry.get("app.storage.columnar.rows").gauge().value());
+    assertTrue(meterRegistry.get("app.storage.offheap.bytes").gauge().value() > 0);
+  }
+
+  @Test
+  void shouldReuseColumnsUntilDatasetChanges() throws Exception {
+    MovieColumns columns = columnStore.columns();
+    List<MovieDto> movies = columns.toDtoList(0, columns.size());
+
+    // Fora da resposta HTTP (Writer), o texto e decodificado e o JSON e o mesmo
+    assertEquals(
+        objectMapper.readTree(objectMapper.writeValueAsBytes(movies)),
+        objectMapper.readTree(objectMapper.writeValueAsString(movies)));
+    assertEquals(jpaJson(0, 1).get(0).get("title").asText(), movies.get(0).getTitle());
+    assertTrue(columns.offHeapUsedBytes() > 0);
+    assertSame(columns, columnStore.columns());
+  }
+
+  @Test
+  void shouldSliceColumnarCopyForPagesOrderedById() throws Exception {
+    int total = columnStore.columns().size();
+    int lastPage = (total - 1) / 10;
+
+    JsonNode first = getJson("/api/v1/movies?page=0&size=10");
+    assertEquals(jpaJson(0, 10), first.get("content"));
+    assertEquals(total, first.get("total_elements").asInt());
+
+    // Ultima pagina parcial e pagina alem do fim
+    JsonNode last = getJson("/api/v1/movies?page=" + lastPage + "&size=10");
+    assertEquals(jpaJson(lastPage * 10, total), last.get("content"));
+    assertEquals(total - lastPage * 10, last.get("content").size());
+
+    JsonNode beyond = getJson("/api/v1/movies?page=" + (lastPage + 1) + "&size=10");
+    assertEquals(0, beyond.get("content").size());
+    assertEquals(total, beyond.get("total_elements").asInt());
+
+    Page<MovieDto> page = movieReadModel.findAll(PageRequest.of(1, 5));
+    assertEquals(5, page.getContent().size());
+    assertTrue(page.getContent().stream().allMatch(OffHeapMovieDto.class::isInstance));
+    assertEquals(total, page.getTotalElements());
+  }
+
+  @Test
+  void shouldFallBackToJpaForOtherSortOrders() throws Exception {
+    Page<MovieDto> byTitle =
+        movieReadModel.findAll(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "title")));
+
+    assertEquals(20, byTitle.getContent().size());
+    assertFalse(byTitle.getContent().stream().anyMatch(OffHeapMovieDto.class::isInstance));
+    assertEquals(columnStore.columns().size(), byTitle.getTotalElements());
+    List<String> titles = byTitle.getContent().stream().map(MovieDto::getTitle).toList();
+    assertEquals(titles.stream().sorted().toList(), titles);
+
+    JsonNode byYear = getJson("/api/v1/movies?page=0&size=20&sort=year").get("content");
+    List<Integer> years = new ArrayList<>();
+    byYear.forEach(movie -> years.add(movie.get("year").asInt()));
+    assertEquals(years.stream().sorted(Comparator.naturalOrder()).toList(), years);
+  }
+
+  @Test
+  void shouldRebuildColumnarCopyAfterWrite() throws Exception {
+    MovieColumns before = columnStore.columns();
+    JsonNode statsBefore = getJson("/api/data/stats");
+
+    MovieInputDto input =
+        new MovieInputDto(2031, "Ação Colunar", "Estúdio Ñandu", List.of("Produtor"), true);
+    MovieDto created =
+        objectMapper.readValue(
+            mockMvc
+                .perform(
+                    post("/api/v1/movies")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8),
+            MovieDto.class);
+    try {
+      JsonNode listed = getJson("/api/v1/movies");
+      MovieColumns after = columnStore.columns();
+
+      assertNotSame(before, after);
+      assertTrue(after.version() > before.version());
+      assertEquals(before.size() + 1, after.size());
+      assertEquals(jpaJson(0, Integer.MAX_VALUE), listed);
+
+      // Texto com acentos sai dos bytes UTF-8 da arena sem alteracao
+      JsonNode last = listed.get(listed.size() - 1);
+      assertEquals(created.getId().longValue(), last.get("id").asLong());
+      assertEquals("Ação Colunar", last.get("title").asText());
+      assertEquals("Estúdio Ñandu", last.get("studios").asText());
+
+      JsonNode stats = getJson("/api/data/stats");
+      assertEquals(statsBefore.get("totalMovies").asLong() + 1, stats.get("totalMovies").asLong());
+      assertEquals(
+          statsBefore.get("winnerMovies").asLong() + 1, stats.get("winnerMovies").asLong());
+      assertEquals(2031, stats.get("yearRange").get("max").asInt());
+    } finally {
+      mockMvc
+          .perform(delete("/api/v1/movies/{id}", created.getId()))
+          .andExpect(status().isNoContent());
+    }
+
+    assertEquals(before.size(), columnStore.columns().size());
+  }
+
+  @Test
+  void shouldComputeStatsFromColumnsLikeRepository() throws Exception {
+    JsonNode stats = getJson("/api/data/stats");
+
+    long total = jpaRepository.count();
+    long winners = jpaRepository.countByWinnerTrue();
+    assertEquals(total, stats.get("totalMovies").asLong());
+    assertEquals(winners, stats.get("winnerMovies").asLong());
+    assertEquals(total - winners, stats.get("nonWinnerMovies").asLong());
+    assertEquals(
+        objectMapper.readTree(
+            objectMapper.writeValueAsBytes(
+                jpaRepository.findDistinctYearsByWinnerTrueOrderByYear())),
+        stats.get("winnerYears"));
+    MovieColumns columns = columnStore.columns();
+    assertEquals(winners, MovieColumns.count(columns.selectWinners()));
+    assertEquals(
+        jpaRepository.findDistinctYearsByWinnerTrueOrderByYear(),
+        columns.distinctYears(columns.selectWinners()));
+    int[] range = columns.yearRange(columns.selectWinners());
+    assertEquals(stats.get("yearRange").get("min").asInt(), range[0]);
+    assertEquals(stats.get("yearRange").get("max").asInt(), range[1]);
+
+    // Vencedores continuam pelo repositorio de dominio
+    assertEquals(winners, getJson("/api/v1/movies/winners").size());
+  }
+
+  private JsonNode getJson(String uri) throws Exception {
+    return objectMapper.readTree(
+        mockMvc
+            .perform(get(uri))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8));
+  }
+
+  /** Linhas [from, to) da listagem pelo JPA, em ordem de ID */
+  private JsonNode jpaJson(int from, int to) throws Exception {
+    List<MovieDto> movies = entityMapper.toDtoList(jpaRepository.findAll(Sort.by("id")));
+    return objectMapper.readTree(
+        objectMapper.writeValueAsBytes(movies.subList(from, Math.min(to, movies.size()))));
+  }
+}
@@ -0,0 +1,59 @@
+package com.goldenraspberry.infrastructure.persistence.columnar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.goldenraspberry.common.util.ColumnScan;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Testes para VectorColumnScan, comparada com a varredura escalar */
+class VectorColumnScanTest {
+
+  // Tamanhos abaixo, iguais e acima da largura dos vetores e das palavras do bitset
+  private static final int[] LENGTHS = {0, 1, 7, 8, 15, 16, 17, 63, 64, 65, 130, 1000};
+
+  private final ColumnScan scalar = ColumnScan.scalar();
+  private final ColumnScan vector = new VectorColumnScan();
+  private final Random random = new Random(42);
+
+  @Test
+  void shouldComputeMaskedMinAndMaxLikeScalarScan() {
+    for (int length : LENGTHS) {
+      int[] years = randomYears(length);
+      long[] winners = random.longs((length + 63) >>> 6).toArray();
+
+      assertEquals(
+          scalar.min(years, length, winners),
+          vector.min(years, length, winners),
+          "length " + length);
+      assertEquals(
+          scalar.max(years, length, winners),
+          vector.max(years, length, winners),
+          "length " + length);
+    }
+  }
+
+  @Test
+  void shouldComputeConsecutiveDeltasLikeScalarScan() {
+    for (int length : LENGTHS) {
+      int[] years = randomYears(length);
+      Arrays.sort(years);
+
+      int[] expected = new int[Math.max(0, length - 1)];
+      int[] actual = new int[expected.length];
+      scalar.deltas(years, length, expected);
+      vector.deltas(years, length, actual);
+
+      assertArrayEquals(expected, actual, "length " + length);
+    }
+
+    int[] empty = new int[0];
+    assertEquals(Integer.MAX_VALUE, vector.min(new int[] {1990}, 1, new long[] {0}));
+    vector.deltas(empty, 0, empty);
+  }
+
+  private int[] randomYears(int length) {
+    return random.ints(length, 1980, 2000).toArray();
+  }
+}
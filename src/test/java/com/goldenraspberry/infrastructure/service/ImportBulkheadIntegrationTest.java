@@ -0,0 +1,72 @@
+package com.goldenraspberry.infrastructure.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/** Testes de integracao para o isolamento das cargas da base em relacao a API publica */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImportBulkheadIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ImportBulkhead importBulkhead;
+
+  /**
+   * Cargas ocupam apenas o bulkhead: com a carga em execucao e a fila cheia, novas cargas recebem
+   * 503 com Retry-After e a API publica continua respondendo
+   */
+  @Test
+  void shouldRejectImportsWhenQueueIsFullWithoutBlockingReads() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    List<CompletableFuture<Boolean>> running = new ArrayList<>();
+    try {
+      // Uma carga em execucao + fila (capacidade 2) cheia
+      for (int i = 0; i < 3; i++) {
+        running.add(importBulkhead.submit(() -> awaitRelease(release)));
+      }
+
+      MvcResult rejected = mockMvc.perform(post("/api/data/reload")).andReturn();
+      mockMvc
+          .perform(asyncDispatch(rejected))
+          .andExpect(status().isServiceUnavailable())
+          .andExpect(header().string("Retry-After", "30"))
+          .andExpect(jsonPath("$.success").value(false));
+
+      mockMvc
+          .perform(get("/api/v1/producers/intervals"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.min").isNotEmpty());
+    } finally {
+      release.countDown();
+    }
+
+    for (CompletableFuture<Boolean> task : running) {
+      assertThat(task.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  private static boolean awaitRelease(CountDownLatch release) {
+    try {
+      return release.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
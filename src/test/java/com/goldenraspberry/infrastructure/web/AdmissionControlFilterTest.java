@@ -0,0 +1,73 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Testes para AdmissionControlFilter */
+class AdmissionControlFilterTest {
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  /** Limite fixo de 2 requisicoes: escritas usam 60% (1 vaga), intervalos usam o limite todo */
+  private final AdmissionControlFilter filter =
+      new AdmissionControlFilter(
+          true,
+          2,
+          2,
+          2,
+          250,
+          0.9,
+          1,
+          new ObjectMapper().registerModule(new JavaTimeModule()),
+          meterRegistry);
+
+  @Test
+  void shouldShedWritesBeforeIntervalsAndAnswer503WithRetryAfter() throws Exception {
+    List<MockHttpServletResponse> nested = new ArrayList<>();
+
+    // A requisicao externa ocupa uma vaga enquanto as internas chegam
+    MockHttpServletResponse outer =
+        perform(
+            get("/api/v1/movies/winners"),
+            (request, response) -> {
+              nested.add(perform(new MockHttpServletRequest("POST", "/api/v1/movies"), null));
+              nested.add(perform(get("/api/v1/producers/intervals"), null));
+              nested.add(perform(get("/api/v1/health"), null));
+            });
+
+    assertEquals(200, outer.getStatus());
+    assertEquals(503, nested.get(0).getStatus(), "escrita rejeitada primeiro");
+    assertEquals("1", nested.get(0).getHeader("Retry-After"));
+    assertTrue(nested.get(0).getContentAsString().contains("\"status\":503"));
+    assertEquals(200, nested.get(1).getStatus(), "intervalos ainda admitidos");
+    assertEquals(200, nested.get(2).getStatus(), "health check nao passa pelo controle");
+
+    assertEquals(
+        1.0, meterRegistry.get("api.admission.rejected").tag("priority", "low").counter().count());
+    assertEquals(0.0, meterRegistry.get("api.admission.in_flight").gauge().value());
+    assertEquals(2.0, meterRegistry.get("api.admission.limit").gauge().value());
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequest request, FilterChain chain)
+      throws ServletException, IOException {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain != null ? chain : (req, res) -> {});
+    return response;
+  }
+
+  private static MockHttpServletRequest get(String uri) {
+    return new MockHttpServletRequest("GET", uri);
+  }
+}
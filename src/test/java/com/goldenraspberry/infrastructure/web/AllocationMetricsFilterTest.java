@@ -0,0 +1,59 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/** Testes para AllocationMetricsFilter */
+class AllocationMetricsFilterTest {
+
+  private static final int ALLOCATION = 4 * 1024 * 1024;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldRecordAllocatedBytesAndWriteDebugHeaderBeforeBody() throws Exception {
+    AllocationMetricsFilter filter = new AllocationMetricsFilter(true, true, meterRegistry);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/api/v1/movies"),
+        response,
+        (req, res) -> {
+          byte[] payload = new byte[ALLOCATION];
+          res.getOutputStream().write(payload, 0, 16);
+        });
+
+    long header = Long.parseLong(response.getHeader(AllocationMetricsFilter.DEBUG_HEADER));
+    assertTrue(header >= ALLOCATION, "cabecalho conta a alocacao antes da escrita: " + header);
+
+    DistributionSummary summary =
+        meterRegistry
+            .get(AllocationMetricsFilter.SUMMARY_NAME)
+            .tag("method", "GET")
+            .tag("uri", "UNKNOWN")
+            .summary();
+    assertEquals(1, summary.count());
+    assertTrue(summary.totalAmount() >= header);
+  }
+
+  @Test
+  void shouldSkipHeaderByDefaultAndIgnoreNonApiPaths() throws Exception {
+    AllocationMetricsFilter filter = new AllocationMetricsFilter(true, false, meterRegistry);
+    MockHttpServletResponse api = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/movies"), api, (req, res) -> {});
+    filter.doFilter(
+        new MockHttpServletRequest("GET", "/actuator/health"),
+        new MockHttpServletResponse(),
+        (req, res) -> {});
+
+    assertNull(api.getHeader(AllocationMetricsFilter.DEBUG_HEADER));
+    assertEquals(1, meterRegistry.get(AllocationMetricsFilter.SUMMARY_NAME).summaries().size());
+    assertEquals(1, meterRegistry.get(AllocationMetricsFilter.SUMMARY_NAME).summary().count());
+  }
+}
@@ -0,0 +1,135 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieBatchUpdateItemDto;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/** Testes de integracao para as operacoes em lote em /api/v1/movies/batch */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MovieBatchIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
+  /**
+   * Testa as operações em lote em /api/v1/movies/batch Cada item deve ter seu próprio resultado, e
+   * os itens válidos devem ser gravados em lote
+   */
+  @Test
+  void shouldCreateUpdateAndDeleteMoviesInBatch() throws Exception {
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    MovieDto loaded = getWinners().get(0);
+
+    List<MovieInputDto> inputs = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      inputs.add(
+          new MovieInputDto(
+              2024, "Batch Movie " + i, "Batch Studio", List.of("Batch Producer"), false));
+    }
+    inputs.add(new MovieInputDto(2024, "Batch Movie 0", "Repeated", List.of("Producer"), false));
+    inputs.add(
+        new MovieInputDto(loaded.getYear(), loaded.getTitle(), "Existing", List.of("P"), false));
+    inputs.add(new MovieInputDto(2024, "", "Invalid", List.of("Producer"), false));
+
+    long statementsBefore = statistics.getPrepareStatementCount();
+    JsonNode created =
+        batchRequest(post("/api/v1/movies/batch"), objectMapper.writeValueAsString(inputs));
+    long statements = statistics.getPrepareStatementCount() - statementsBefore;
+
+    assertThat(created.get("total").asInt()).isEqualTo(13);
+    assertThat(created.get("succeeded").asInt()).isEqualTo(10);
+    assertThat(created.get("failed").asInt()).isEqualTo(3);
+    assertThat(created.get("results").get(0).get("status").asText()).isEqualTo("CREATED");
+    assertThat(created.get("results").get(10).get("status").asText()).isEqualTo("FAILED");
+    assertThat(created.get("results").get(11).get("error").asText()).contains("Já existe");
+    assertThat(created.get("results").get(12).get("error").asText()).isNotBlank();
+    // Uma consulta de unicidade, a sequence e os INSERTs agrupados em lote
+    assertThat(statements).isLessThan(10);
+
+    List<Long> createdIds = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      createdIds.add(created.get("results").get(i).get("id").asLong());
+    }
+
+    List<MovieBatchUpdateItemDto> updates =
+        List.of(
+            new MovieBatchUpdateItemDto(
+                createdIds.get(0), 2025, "Batch Movie Updated", "S", List.of("P"), true),
+            new MovieBatchUpdateItemDto(
+                createdIds.get(1), 2024, "Batch Movie 2", "S", List.of("P"), false),
+            new MovieBatchUpdateItemDto(999999L, 2024, "Missing", "S", List.of("P"), false));
+    JsonNode updated =
+        batchRequest(patch("/api/v1/movies/batch"), objectMapper.writeValueAsString(updates));
+
+    assertThat(updated.get("succeeded").asInt()).isEqualTo(1);
+    assertThat(updated.get("results").get(0).get("movie").get("title").asText())
+        .isEqualTo("Batch Movie Updated");
+    assertThat(updated.get("results").get(1).get("error").asText()).contains("Já existe outro");
+    assertThat(updated.get("results").get(2).get("error").asText()).contains("não encontrado");
+
+    List<Long> deletes = new ArrayList<>(createdIds);
+    deletes.add(createdIds.get(0));
+    deletes.add(999999L);
+    JsonNode deleted =
+        batchRequest(delete("/api/v1/movies/batch"), objectMapper.writeValueAsString(deletes));
+
+    assertThat(deleted.get("succeeded").asInt()).isEqualTo(10);
+    assertThat(deleted.get("failed").asInt()).isEqualTo(2);
+    mockMvc
+        .perform(get("/api/v1/movies/{id}", createdIds.get(0)))
+        .andExpect(status().isBadRequest());
+
+    mockMvc
+        .perform(post("/api/v1/movies/batch").contentType(MediaType.APPLICATION_JSON).content("[]"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private JsonNode batchRequest(MockHttpServletRequestBuilder request, String body)
+      throws Exception {
+    String content =
+        mockMvc
+            .perform(request.contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString(StandardCharsets.UTF_8);
+    return objectMapper.readTree(content);
+  }
+
+  private List<MovieDto> getWinners() throws Exception {
+    String content =
+        mockMvc
+            .perform(get("/api/v1/movies/winners"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(
+        content, objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+  }
+}
@@ -0,0 +1,98 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/** Testes de integracao para a paginacao por cursor (keyset) da listagem de filmes */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MovieCursorPaginationIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  /**
+   * Testa a paginacao por cursor em /api/v1/movies Percorrer todas as paginas deve retornar cada
+   * filme exatamente uma vez, na ordem do campo escolhido
+   */
+  @Test
+  void shouldWalkAllMoviesWithCursor() throws Exception {
+    String allContent =
+        mockMvc
+            .perform(get("/api/v1/movies"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    List<MovieDto> allMovies =
+        objectMapper.readValue(
+            allContent,
+            objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+
+    List<Long> walkedIds = new ArrayList<>();
+    List<Integer> walkedYears = new ArrayList<>();
+    String cursor = "";
+    int pages = 0;
+    do {
+      MvcResult result =
+          mockMvc
+              .perform(
+                  get("/api/v1/movies")
+                      .param("cursor", cursor)
+                      .param("size", "7")
+                      .param("sort", "year")
+                      .param("includeTotal", String.valueOf(pages == 0)))
+              .andExpect(status().isOk())
+              .andExpect(jsonPath("$.sort").value("year"))
+              .andReturn();
+
+      JsonNode page = objectMapper.readTree(result.getResponse().getContentAsString());
+      if (pages == 0) {
+        assertThat(page.get("total_elements").asLong()).isEqualTo(allMovies.size());
+      } else {
+        assertThat(page.has("total_elements")).isFalse();
+      }
+      page.get("content")
+          .forEach(
+              movie -> {
+                walkedIds.add(movie.get("id").asLong());
+                walkedYears.add(movie.get("year").asInt());
+              });
+      cursor = page.path("next_cursor").asText(null);
+      pages++;
+    } while (cursor != null && pages <= allMovies.size());
+
+    assertThat(walkedIds)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(allMovies.stream().map(MovieDto::getId).toList());
+    assertThat(walkedYears).isSorted();
+    assertThat(pages).isEqualTo((allMovies.size() + 6) / 7);
+
+    // Sem size, vale o padrao da paginacao por cursor
+    mockMvc
+        .perform(get("/api/v1/movies").param("cursor", ""))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.size").value(20))
+        .andExpect(jsonPath("$.content.length()").value(20));
+
+    mockMvc
+        .perform(get("/api/v1/movies").param("cursor", "not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+}
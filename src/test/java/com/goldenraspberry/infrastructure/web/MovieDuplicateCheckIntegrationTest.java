@@ -0,0 +1,140 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import com.goldenraspberry.application.dto.MovieInputDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Testes de integracao para a verificacao de titulo e ano duplicados na criacao e na atualizacao
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MovieDuplicateCheckIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  /**
+   * Testa atualização de filme para título e ano de outro filme existente Deve retornar status 400,
+   * mas permitir manter o próprio título e ano
+   */
+  @Test
+  @Transactional
+  void shouldReturn400WhenUpdatingToAnotherMoviesTitleAndYear() throws Exception {
+    MovieDto existing = getWinners().get(0);
+
+    MovieInputDto newMovie = new MovieInputDto();
+    newMovie.setYear(2023);
+    newMovie.setTitle("Movie to Collide");
+    newMovie.setStudios("Original Studio");
+    newMovie.setProducers(List.of("Original Producer"));
+    newMovie.setWinner(false);
+
+    MvcResult createResult =
+        mockMvc
+            .perform(
+                post("/api/v1/movies")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(newMovie)))
+            .andExpect(status().isCreated())
+            .andReturn();
+    MovieDto createdMovie =
+        objectMapper.readValue(createResult.getResponse().getContentAsString(), MovieDto.class);
+
+    // Mesmo título e ano do próprio filme é permitido
+    newMovie.setStudios("Updated Studio");
+    mockMvc
+        .perform(
+            put("/api/v1/movies/{id}", createdMovie.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newMovie)))
+        .andExpect(status().isOk());
+
+    // Título e ano de outro filme é rejeitado
+    newMovie.setTitle(existing.getTitle());
+    newMovie.setYear(existing.getYear());
+    mockMvc
+        .perform(
+            put("/api/v1/movies/{id}", createdMovie.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newMovie)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.title").value("Erro de Negócio"));
+  }
+
+  /**
+   * Testa o filtro de duplicidade na criação Um filme novo não deve consultar o banco, e um filme
+   * já carregado do CSV deve ser reconhecido como duplicado
+   */
+  @Test
+  @Transactional
+  void shouldUseDuplicateFilterOnCreate() throws Exception {
+    double negatives = duplicateChecks("negative");
+    double truePositives = duplicateChecks("true_positive");
+
+    MovieInputDto newMovie = new MovieInputDto();
+    newMovie.setYear(2023);
+    newMovie.setTitle("Brand New Filter Test Movie");
+    newMovie.setStudios("Test Studio");
+    newMovie.setProducers(List.of("Test Producer"));
+    newMovie.setWinner(false);
+
+    mockMvc
+        .perform(
+            post("/api/v1/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newMovie)))
+        .andExpect(status().isCreated());
+    assertThat(duplicateChecks("negative")).isEqualTo(negatives + 1);
+
+    MovieDto loaded = getWinners().get(0);
+    newMovie.setTitle(loaded.getTitle());
+    newMovie.setYear(loaded.getYear());
+    mockMvc
+        .perform(
+            post("/api/v1/movies")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newMovie)))
+        .andExpect(status().isBadRequest());
+    assertThat(duplicateChecks("true_positive")).isEqualTo(truePositives + 1);
+  }
+
+  private double duplicateChecks(String result) {
+    return meterRegistry
+        .get("movies.duplicate.filter.checks")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private List<MovieDto> getWinners() throws Exception {
+    String content =
+        mockMvc
+            .perform(get("/api/v1/movies/winners"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    return objectMapper.readValue(
+        content, objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+  }
+}
@@ -0,0 +1,79 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goldenraspberry.application.dto.MovieDto;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/** Testes de integracao para a listagem completa de filmes em streaming (NDJSON) */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MovieNdjsonStreamingIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private ObjectMapper objectMapper;
+
+  /**
+   * Testa o endpoint /api/v1/movies em streaming (NDJSON) Deve retornar uma linha JSON por filme,
+   * com os mesmos filmes da listagem completa
+   */
+  @Test
+  void shouldStreamAllMoviesAsNdjson() throws Exception {
+    String allContent =
+        mockMvc
+            .perform(get("/api/v1/movies").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    List<MovieDto> allMovies =
+        objectMapper.readValue(
+            allContent,
+            objectMapper.getTypeFactory().constructCollectionType(List.class, MovieDto.class));
+
+    MvcResult asyncResult =
+        mockMvc
+            .perform(get("/api/v1/movies").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    String streamed =
+        mockMvc
+            .perform(asyncDispatch(asyncResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+    List<String> lines = streamed.lines().toList();
+    assertThat(streamed).endsWith("\n");
+    assertThat(lines).hasSize(allMovies.size());
+
+    List<MovieDto> streamedMovies = new ArrayList<>();
+    for (String line : lines) {
+      streamedMovies.add(objectMapper.readValue(line, MovieDto.class));
+    }
+    assertThat(streamedMovies)
+        .extracting(MovieDto::getId)
+        .isSorted()
+        .containsExactlyInAnyOrderElementsOf(allMovies.stream().map(MovieDto::getId).toList());
+    assertThat(streamedMovies)
+        .usingRecursiveFieldByFieldElementComparator()
+        .containsExactlyInAnyOrderElementsOf(allMovies);
+  }
+}
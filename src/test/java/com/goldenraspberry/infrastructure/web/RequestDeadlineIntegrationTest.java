@@ -0,0 +1,89 @@
+package com.goldenraspberry.infrastructure.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.goldenraspberry.common.exception.DeadlineExceededException;
+import com.goldenraspberry.common.util.Deadline;
+import com.goldenraspberry.domain.model.Movie;
+import com.goldenraspberry.domain.port.MovieRepository;
+import com.goldenraspberry.domain.service.ProducerIntervalCalculator;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/** Testes de integracao para os prazos de requisicao (X-Request-Timeout e X-Request-Deadline) */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestDeadlineIntegrationTest {
+
+  @Autowired private MockMvc mockMvc;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Autowired private MovieRepository movieRepository;
+
+  @Autowired private ProducerIntervalCalculator intervalCalculator;
+
+  /**
+   * Prazo informado pelo cliente: expirado resulta em 504 e conta como trabalho abandonado;
+   * cabecalho invalido resulta em 400
+   */
+  @Test
+  void shouldHonorRequestDeadlineHeaders() throws Exception {
+    double expiredBefore = cancelledCount("expired");
+
+    mockMvc
+        .perform(get("/api/v1/producers/intervals").header("X-Request-Timeout", "0"))
+        .andExpect(status().isGatewayTimeout())
+        .andExpect(jsonPath("$.status").value(504));
+    mockMvc
+        .perform(get("/api/v1/producers/intervals").header("X-Request-Deadline", "amanha"))
+        .andExpect(status().isBadRequest());
+    mockMvc
+        .perform(
+            get("/api/v1/producers/intervals")
+                .header("X-Request-Timeout", "60000")
+                .header("X-Request-Deadline", Instant.now().plusSeconds(60).toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.min").isNotEmpty());
+    // Instante distante demais para milissegundos: o prazo e limitado, sem erro
+    mockMvc
+        .perform(
+            get("/api/v1/producers/intervals")
+                .header("X-Request-Deadline", "+1000000000-01-01T00:00:00Z"))
+        .andExpect(status().isOk());
+    mockMvc
+        .perform(
+            get("/api/v1/producers/intervals")
+                .header("X-Request-Timeout", String.valueOf(Long.MAX_VALUE)))
+        .andExpect(status().isOk());
+
+    assertThat(cancelledCount("expired")).isEqualTo(expiredBefore + 1);
+  }
+
+  /** O calculo de intervalos verifica o prazo da thread e e abandonado quando ele expira */
+  @Test
+  void shouldAbandonIntervalCalculationWhenDeadlineExpires() {
+    List<Movie> movies = movieRepository.findAll();
+    Deadline expired = Deadline.after(Duration.ZERO, reason -> {});
+
+    assertThatThrownBy(() -> expired.call(() -> intervalCalculator.findMinMaxIntervals(movies)))
+        .isInstanceOf(DeadlineExceededException.class);
+    assertThat(intervalCalculator.findMinMaxIntervals(movies).get("min")).isNotEmpty();
+  }
+
+  private double cancelledCount(String reason) {
+    return meterRegistry.get("requests.cancelled").tag("reason", reason).counter().count();
+  }
+}